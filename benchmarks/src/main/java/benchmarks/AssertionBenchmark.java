@@ -0,0 +1,75 @@
+package benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.AssertionUtils;
+
+/**
+ * AssertionBenchmark - Cost of AssertionUtils.assertResponseContainsField
+ * Runs against an in-memory response shaped like the fakestoreapi product
+ * list, so the numbers cover JSON path evaluation and not the network.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AssertionBenchmark {
+    // Products in the response body
+    @Param({"1", "20", "200"})
+    private int products;
+
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder body = new StringBuilder("[");
+        for (int id = 1; id <= products; id++) {
+            if (id > 1) {
+                body.append(',');
+            }
+            body.append(String.format("{\"id\":%d,\"title\":\"Product %d\",\"price\":%d.99,"
+                    + "\"description\":\"Description of product %d\",\"category\":\"clothing\","
+                    + "\"image\":\"https://example.com/img/%d.jpg\",\"rating\":{\"rate\":4.1,\"count\":%d}}",
+                    id, id, id, id, id, id * 10));
+        }
+        body.append(']');
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body.toString())
+                .build();
+    }
+
+    @Benchmark
+    public void topLevelField() {
+        AssertionUtils.assertResponseContainsField(response, "[0].title", "title missing");
+    }
+
+    @Benchmark
+    public void nestedField() {
+        AssertionUtils.assertResponseContainsField(response, "[0].rating.rate", "rating missing");
+    }
+
+    /**
+     * GPath filter over the whole list, the most expensive form tests use
+     */
+    @Benchmark
+    public void filteredField() {
+        AssertionUtils.assertResponseContainsField(response, "find { it.id == " + products + " }.title",
+                "product missing");
+    }
+}
@@ -0,0 +1,107 @@
+package benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CompareResults - Compares two JMH JSON result files (-rf json)
+ * Prints every benchmark present in both with its score change, and exits with
+ * status 1 if any got slower than the threshold by more than both errors combined.
+ *
+ * Usage: java -cp target/benchmarks.jar benchmarks.CompareResults baseline.json current.json [threshold%]
+ */
+public class CompareResults {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Score> baseline = read(args[0]);
+        Map<String, Score> current = read(args[1]);
+
+        boolean regressed = false;
+        System.out.println(String.format("%-75s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println(String.format("%-75s %14s %14.3f %9s  %s", entry.getKey(), "-",
+                        entry.getValue().score, "new", entry.getValue().unit));
+                continue;
+            }
+            Score after = entry.getValue();
+            double change = (after.score - before.score) / before.score * 100.0;
+            // Higher is worse for time modes (avgt, ss, sample), better for throughput
+            double worse = after.mode.equals("thrpt") ? -change : change;
+            boolean significant = Math.abs(after.score - before.score) > before.error + after.error;
+            String flag = "";
+            if (worse > threshold && significant) {
+                flag = "  SLOWER";
+                regressed = true;
+            } else if (worse < -threshold && significant) {
+                flag = "  FASTER";
+            }
+            System.out.println(String.format("%-75s %14.3f %14.3f %+8.1f%%  %s%s", entry.getKey(), before.score,
+                    after.score, change, after.unit, flag));
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static Map<String, Score> read(String file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : results) {
+                JsonObject result = element.getAsJsonObject();
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                String key = result.get("benchmark").getAsString() + params(result);
+                JsonElement error = metric.get("scoreError");
+                scores.put(key, new Score(result.get("mode").getAsString(), metric.get("score").getAsDouble(),
+                        error != null && error.isJsonPrimitive() && error.getAsJsonPrimitive().isNumber()
+                                ? error.getAsDouble() : 0.0,
+                        metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return scores;
+    }
+
+    private static String params(JsonObject result) {
+        if (!result.has("params")) {
+            return "";
+        }
+        StringBuilder params = new StringBuilder();
+        for (Map.Entry<String, JsonElement> param : new TreeMap<>(result.getAsJsonObject("params").asMap())
+                .entrySet()) {
+            params.append(params.length() == 0 ? " (" : ", ").append(param.getKey()).append('=')
+                    .append(param.getValue().getAsString());
+        }
+        return params.append(')').toString();
+    }
+
+    /**
+     * Score - Primary metric of one benchmark and parameter combination
+     */
+    private static final class Score {
+        private final String mode;
+        private final double score;
+        private final double error;
+        private final String unit;
+
+        private Score(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import config.ConfigReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ConfigReaderBenchmark - Cost of typed config getters
+ * Every page object, wait and report call reads configuration, often from
+ * many test threads at once, so getters must stay a field read on the snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public String getBaseUrl() {
+        return ConfigReader.getBaseUrl();
+    }
+
+    @Benchmark
+    public int getExplicitWait() {
+        return ConfigReader.getExplicitWait();
+    }
+
+    @Benchmark
+    public boolean isHeadless() {
+        return ConfigReader.isHeadless();
+    }
+
+    @Benchmark
+    public String getPropertyByKey() {
+        return ConfigReader.getProperty("window_size");
+    }
+
+    /**
+     * Same getter with as many threads as a parallel UI run
+     */
+    @Benchmark
+    @Threads(4)
+    public int getExplicitWaitContended() {
+        return ConfigReader.getExplicitWait();
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import config.ConfigReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ReportManager;
+
+/**
+ * ReportManagerBenchmark - Cost of report logging on the test thread
+ * Each iteration logs a fixed batch to a fresh test node and then waits for the
+ * writer outside the measurement, so the numbers are enqueue cost, not flushing.
+ * A fixed batch keeps the in-memory report bounded; time is per batch.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// Batches stay below report_queue_capacity, so logging never blocks on a full queue
+@Warmup(iterations = 10, batchSize = 5_000)
+@Measurement(iterations = 20, batchSize = 5_000)
+@Fork(2)
+@State(Scope.Thread)
+public class ReportManagerBenchmark {
+    private static final String TABLE = "<table class='table table-sm'><tr><th>Request</th><th>Status</th>"
+            + "<th>Time (ms)</th></tr><tr><td>GET /products</td><td>200</td><td>182</td></tr></table>";
+
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void initializeReport() throws IOException {
+        ConfigReader.setOverride("report_path",
+                Files.createTempDirectory("report-benchmark").toString() + "/");
+        ReportManager.initializeReport();
+    }
+
+    @Setup(Level.Iteration)
+    public void startTest() {
+        ReportManager.startTest("benchmark-" + iteration++, "ReportManager benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public void endTest() {
+        ReportManager.endTest();
+        ReportManager.flushAndWait();
+    }
+
+    @Benchmark
+    public void logInfo() {
+        ReportManager.logInfo("Navigated to products page");
+    }
+
+    @Benchmark
+    public void logPass() {
+        ReportManager.logPass("Products page loaded successfully");
+    }
+
+    @Benchmark
+    public void logHtmlTable() {
+        ReportManager.logInfo(TABLE);
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ScreenshotUtils;
+
+/**
+ * ScreenshotEncodingBenchmark - Cost of converting a driver screenshot to the
+ * configured screenshot_format and screenshot_scale on the writer pool
+ * The input is a synthetic 1920x1080 PNG with gradients and text, close to a
+ * storefront page in size; png at scale 1.0 is the pass-through case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreenshotEncodingBenchmark {
+    @Param({"png", "jpg"})
+    private String format;
+
+    @Param({"1.0", "0.5"})
+    private double scale;
+
+    private byte[] png;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 1920, 1080, new Color(0xFE, 0x98, 0x0F)));
+            graphics.fillRect(0, 0, 1920, 1080);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
+            for (int row = 0; row < 40; row++) {
+                graphics.setColor(row % 2 == 0 ? Color.DARK_GRAY : Color.GRAY);
+                graphics.drawString("Blue Top Rs. 500 Add to cart Men Tshirt Sleeveless Dress Rs. 1000 " + row,
+                        40, 60 + row * 25);
+                graphics.fillRect(1200 + (row % 4) * 160, 60 + (row / 4) * 100, 140, 80);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", encoded);
+        png = encoded.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return ScreenshotUtils.encode(png, format, scale);
+    }
+}
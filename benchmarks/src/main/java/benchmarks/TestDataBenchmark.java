@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.TestDataRecord;
+import utils.TestDataUtils;
+
+/**
+ * TestDataBenchmark - Cost of test data lookups against testdata.json
+ * The file is parsed once into an indexed store; these measure the lookups
+ * data providers and tests make after that.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TestDataBenchmark {
+
+    @Benchmark
+    public String getLoginTestData() {
+        return TestDataUtils.getLoginTestData(0, "email");
+    }
+
+    @Benchmark
+    public String getProductTestData() {
+        return TestDataUtils.getProductTestData(1, "searchKeyword");
+    }
+
+    @Benchmark
+    public TestDataRecord getRecord() {
+        return TestDataUtils.getRecord("cartTestData", 0);
+    }
+
+    /**
+     * Index past the end of the array: the null path taken by optional data
+     */
+    @Benchmark
+    public String getMissingRecord() {
+        return TestDataUtils.getTestDataFromJson("testdata.json", "loginTestData", 99, "email");
+    }
+}
@@ -1,9 +1,23 @@
 package base;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import load.LoadScenario;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import config.ConfigReader;
+import utils.ApiClient;
+import utils.ExecutorFactory;
+import utils.LatencySampler;
+import utils.ReportManager;
+import utils.RequestPlan;
 
 /**
  * BaseAPITest - Base class for all API test classes
@@ -13,13 +27,149 @@ public class BaseAPITest {
 
     @BeforeClass
     public void setUpAPI() {
-        // Set base URI for all API tests
-        RestAssured.baseURI = ConfigReader.getApiBaseUrl();
-        
         // Optional: Set authentication, headers, etc.
         System.out.println("API Base URL set to: " + ConfigReader.getApiBaseUrl());
     }
 
+    /**
+     * Create a report node so API measurements (e.g. latency tables) are recorded
+     *
+     * @param method - Test method about to run
+     */
+    @BeforeMethod
+    public void startReport(Method method) {
+        ReportManager.startTest(this.getClass().getSimpleName() + "." + method.getName(),
+                               "API test for " + this.getClass().getSimpleName());
+    }
+
+    @AfterMethod
+    public void endReport() {
+        ReportManager.endTest();
+    }
+
+    /**
+     * Start a new request based on the shared, connection-pooled spec
+     * Base URI and timeouts are already applied; never set RestAssured globals in tests
+     *
+     * @return RequestSpecification to continue building the request
+     */
+    protected RequestSpecification request() {
+        return ApiClient.given();
+    }
+
+    /**
+     * Measure the latency distribution of a request
+     * Any response outside 200-299 counts as an error sample
+     *
+     * <pre>
+     * LatencySampler.Result result = measureLatency("GET /products", () -> request().get("/products"))
+     *         .warmup(5).samples(50).concurrency(4).targetRate(20)
+     *         .run();
+     * AssertionUtils.assertLatencyBudget(result.getHistogram(), 1000, 2000, 3000, 5000, "GET /products");
+     * </pre>
+     *
+     * @param name - Name shown in the report
+     * @param call - Sends the request
+     * @return LatencySampler to configure and run
+     */
+    protected LatencySampler measureLatency(String name, Supplier<Response> call) {
+        return LatencySampler.measure(name, expectSuccess(name, call));
+    }
+
+    /**
+     * Send the same request many times at once
+     * Each invocation runs on its own thread: virtual threads when thread_mode=virtual
+     * (capped at virtual_thread_max_concurrency), otherwise up to thread_count platform threads
+     *
+     * @param name - Name shown in the report
+     * @param invocations - Number of requests to send
+     * @param call - Sends the request
+     * @return Result with the latency distribution and error count
+     */
+    protected LatencySampler.Result sendConcurrently(String name, int invocations, Supplier<Response> call) {
+        int concurrency = Math.min(invocations, ExecutorFactory.getConcurrency(ConfigReader.getThreadCount()));
+        return measureLatency(name, call)
+                .warmup(0)
+                .samples(invocations)
+                .concurrency(concurrency)
+                .run();
+    }
+
+    /**
+     * Execute request plans concurrently, once each, and time every item
+     * The per-item status and time are attached to the report
+     *
+     * @param plans - Plans to run, e.g. PostmanCollection.load(...).getReadOnlyPlans()
+     * @return One execution per plan, in the order given
+     */
+    protected List<RequestPlan.Execution> runPlans(List<RequestPlan> plans) {
+        ExecutorService executor = ExecutorFactory.newExecutor("request-plan",
+                Math.max(1, Math.min(plans.size(), ConfigReader.getThreadCount())));
+        try {
+            List<CompletableFuture<RequestPlan.Execution>> futures = new ArrayList<>();
+            for (RequestPlan plan : plans) {
+                futures.add(CompletableFuture.supplyAsync(plan::timedExecute, executor));
+            }
+            List<RequestPlan.Execution> executions = new ArrayList<>();
+            for (CompletableFuture<RequestPlan.Execution> future : futures) {
+                RequestPlan.Execution execution = future.join();
+                System.out.println("Plan " + execution);
+                executions.add(execution);
+            }
+            ReportManager.logInfo(toHtml(executions));
+            return executions;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Status and time of each executed plan as a table
+     */
+    private static String toHtml(List<RequestPlan.Execution> executions) {
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><tr><th>Request</th><th>Method</th><th>Path</th>")
+                .append("<th>Status</th><th>Time (ms)</th></tr>");
+        for (RequestPlan.Execution execution : executions) {
+            RequestPlan plan = execution.getPlan();
+            String status = execution.getError() != null
+                    ? execution.getError().getClass().getSimpleName()
+                    : String.valueOf(execution.getStatusCode());
+            table.append(String.format("<tr><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%.1f</td></tr>",
+                    plan.getQualifiedName(), plan.getMethod(), plan.getPathTemplate(), status,
+                    execution.getElapsedMillis()));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+
+    /**
+     * Use a request plan as a load scenario; non-2xx responses count as errors
+     *
+     * @param plan - Plan to send once per arrival
+     * @return LoadScenario named after the plan
+     */
+    protected LoadScenario toLoadScenario(RequestPlan plan) {
+        return LoadScenario.of(plan.getQualifiedName(), expectSuccess(plan.toString(), plan::execute));
+    }
+
+    /**
+     * Wrap a request as an action that fails on any response outside 200-299
+     * Used for latency sampling and load scenarios
+     *
+     * @param name - Name used in the failure message
+     * @param call - Sends the request
+     * @return Runnable that throws IllegalStateException on an unsuccessful response
+     */
+    protected Runnable expectSuccess(String name, Supplier<Response> call) {
+        return () -> {
+            Response response = call.get();
+            if (!isSuccessResponse(response)) {
+                throw new IllegalStateException(name + " returned " + response.getStatusCode());
+            }
+        };
+    }
+
     /**
      * Get default timeout for API requests
      *
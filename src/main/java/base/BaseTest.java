@@ -1,44 +1,139 @@
 package base;
 
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
+import config.ConfigReader;
+import utils.BrowserState;
 import utils.DriverFactory;
+import utils.OverheadProfiler;
+import utils.OverheadProfiler.Phase;
 import utils.ReportManager;
+import utils.ScreenshotPolicy;
 import utils.ScreenshotUtils;
+import utils.SessionSeeder;
 
 /**
  * BaseTest - Base class for all test classes
  * Provides common setup and teardown methods
  */
 public class BaseTest {
-    protected WebDriver driver;
 
     /**
      * Setup - Executes before each test method
      * Initializes WebDriver and test report
+     *
+     * @param method - Test method about to run
      */
     @BeforeMethod
-    public void setUp() {
-        driver = DriverFactory.initializeDriver();
-        ReportManager.startTest(this.getClass().getSimpleName(), 
+    public void setUp(Method method) {
+        OverheadProfiler.time(Phase.DRIVER_ACQUIRE, DriverFactory::initializeDriver);
+        ReportManager.startTest(this.getClass().getSimpleName() + "." + method.getName(),
                                "Test for " + this.getClass().getSimpleName());
     }
 
     /**
      * Teardown - Executes after each test method
-     * Quits WebDriver and flushes report
+     * Releases WebDriver back to the session pool, always, so a failed
+     * screenshot cannot leak a pool permit; if the browser could not take the
+     * screenshot the session is quit instead of being returned
+     * The report is flushed in the background, not per test
+     *
+     * @param result - Result of the test that just finished
      */
     @AfterMethod
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
+        WebDriver driver = getDriver();
+        boolean sessionBroken = false;
         try {
             if (driver != null) {
-                ScreenshotUtils.captureScreenshot(driver, "AfterTest");
-                DriverFactory.quitDriver();
+                ScreenshotPolicy policy = ScreenshotPolicy.fromString(ConfigReader.getScreenshotPolicy());
+                if (policy.shouldCapture(result, ConfigReader.getScreenshotSampleRate())) {
+                    CompletableFuture<String> screenshot = OverheadProfiler.call(Phase.SCREENSHOT,
+                            () -> ScreenshotUtils.captureScreenshot(driver, result.getMethod().getMethodName()));
+                    // Capture fails at once when the session is dead
+                    sessionBroken = screenshot.isCompletedExceptionally();
+                    ReportManager.attachScreenshot(screenshot);
+                }
             }
         } catch (Exception e) {
+            sessionBroken = true;
             System.err.println("Error during teardown: " + e.getMessage());
+        } finally {
+            if (driver != null) {
+                try {
+                    OverheadProfiler.time(Phase.DRIVER_RELEASE,
+                            sessionBroken ? DriverFactory::quitDriver : DriverFactory::releaseDriver);
+                } catch (Exception e) {
+                    System.err.println("Error releasing WebDriver: " + e.getMessage());
+                }
+            }
+            ReportManager.endTest();
         }
-        ReportManager.flushReport();
+    }
+
+    /**
+     * Start the test logged in as the configured valid user
+     * Call before the first navigation, then open the test's starting page
+     */
+    protected void seedSession() {
+        seedSession(ConfigReader.getValidEmail(), ConfigReader.getValidPassword());
+    }
+
+    /**
+     * Start the test logged in as a user
+     * The session is created once per user and injected as cookies, so the
+     * login form is only used when session_seeding_enabled=false
+     *
+     * @param email - User email
+     * @param password - User password
+     */
+    protected void seedSession(String email, String password) {
+        SessionSeeder.seed(getDriver(), email, password);
+        ReportManager.logInfo("Session seeded for " + email);
+    }
+
+    /**
+     * Start the test logged in with a session no other test shares
+     * Use for tests that log out or change server-side session state
+     */
+    protected void seedDisposableSession() {
+        SessionSeeder.seedUncached(getDriver(), ConfigReader.getValidEmail(), ConfigReader.getValidPassword());
+        ReportManager.logInfo("Disposable session seeded for " + ConfigReader.getValidEmail());
+    }
+
+    /**
+     * Start the test in a named browser state, e.g. a checkout with one item in the cart
+     * The state is built through the UI once and restored from its cookies afterwards
+     *
+     * @param state - State to restore; the driver ends on the state's start page
+     */
+    protected void restoreState(BrowserState state) {
+        boolean built = state.restore(getDriver());
+        ReportManager.logInfo((built ? "Built" : "Restored") + " browser state '" + state.getName() + "'");
+    }
+
+    /**
+     * Open a page of the application directly
+     *
+     * @param path - Path relative to base_url, e.g. "products" or "view_cart"
+     */
+    protected void openPage(String path) {
+        getDriver().navigate().to(URI.create(ConfigReader.getBaseUrl()).resolve(path).toString());
+    }
+
+    /**
+     * Get the WebDriver bound to the current test thread
+     * Test instances are shared between threads in parallel mode, so the
+     * driver must not be kept in an instance field
+     *
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
     }
 }
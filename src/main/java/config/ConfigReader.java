@@ -1,27 +1,138 @@
 package main.java.config;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.Properties;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ConfigReader - Reads configuration from properties file
  * Provides centralized access to all configuration properties
+ * Getters read from an immutable FrameworkConfig snapshot, so they never lock or re-parse
  */
 public class ConfigReader {
-    private static Properties properties;
+    private static final String CONFIG_RESOURCE = "config.properties";
+    // Edited copy of the config; the classpath copy in target/test-classes only changes on a rebuild
+    private static final String SOURCE_CONFIG_FILE = "src/test/resources/config.properties";
+    // Where the config is (re)loaded from: the classpath, or the source file while it is watched
+    private static volatile String configSource = CONFIG_RESOURCE;
+    private static volatile FrameworkConfig config;
+    // Runtime overrides, re-applied on every reload
+    private static final Map<String, String> overrides = new ConcurrentHashMap<>();
 
     static {
+        config = FrameworkConfig.load(CONFIG_RESOURCE);
+        if (config.getBoolean("config_watch")) {
+            startWatcher();
+        }
+    }
+
+    /**
+     * Get the current configuration snapshot
+     *
+     * @return FrameworkConfig instance
+     */
+    public static FrameworkConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Rebuild the snapshot from disk and swap it in if it is valid
+     * An invalid file keeps the previous snapshot
+     */
+    public static synchronized void reload() {
         try {
-            properties = new Properties();
-            String configPath = "src/test/resources/config.properties";
-            FileInputStream fis = new FileInputStream(configPath);
-            properties.load(fis);
-            fis.close();
-        } catch (IOException e) {
-            System.err.println("Error loading config.properties: " + e.getMessage());
-            e.printStackTrace();
+            String source = configSource;
+            ResourceCache.invalidate(source);
+            String profile = config.getProfile();
+            if (profile != null) {
+                ResourceCache.invalidate(FrameworkConfig.getProfileResource(source, profile));
+            }
+            config = FrameworkConfig.load(source).withOverrides(overrides);
+            System.out.println("Configuration reloaded from " + source);
+        } catch (RuntimeException e) {
+            System.err.println("Keeping previous configuration, reload failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Override a value for the rest of the run
+     * Takes precedence over the file, the profile, environment variables and
+     * system properties, and survives reloads
+     *
+     * @param key - Property key
+     * @param value - New value, validated against the schema
+     */
+    public static synchronized void setOverride(String key, String value) {
+        FrameworkConfig updated = config.withOverrides(Map.of(key, value));
+        overrides.put(key, value);
+        config = updated;
+    }
+
+    /**
+     * Remove a runtime override and go back to the configured value
+     *
+     * @param key - Property key
+     */
+    public static synchronized void clearOverride(String key) {
+        if (overrides.remove(key) != null) {
+            reload();
+        }
+    }
+
+    /**
+     * Watch the config directory and reload when the base or profile file changes
+     * When run from the project directory this watches src/test/resources and
+     * switches loading to it, so edits apply without a rebuild. Otherwise the
+     * classpath copy is watched if it is a file; a config inside a jar is not watched.
+     */
+    private static void startWatcher() {
+        Path configFile;
+        if (Files.isRegularFile(Paths.get(SOURCE_CONFIG_FILE))) {
+            configFile = Paths.get(SOURCE_CONFIG_FILE);
+            configSource = SOURCE_CONFIG_FILE;
+            config = FrameworkConfig.load(configSource);
+        } else {
+            configFile = ResourceCache.getFile(CONFIG_RESOURCE);
+            if (configFile == null) {
+                System.err.println("config_watch ignored: " + CONFIG_RESOURCE + " is not a file on disk");
+                return;
+            }
         }
+        Path directory = configFile.toAbsolutePath().getParent();
+        Thread watcher = new Thread(() -> {
+            try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_CREATE);
+                while (!Thread.currentThread().isInterrupted()) {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        String fileName = String.valueOf(event.context());
+                        changed |= fileName.equals(configFile.getFileName().toString())
+                                || (fileName.startsWith("config-") && fileName.endsWith(".properties"));
+                    }
+                    key.reset();
+                    if (changed) {
+                        reload();
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                System.err.println("Config watcher stopped: " + e.getMessage());
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 
     /**
@@ -31,104 +142,440 @@ public class ConfigReader {
      * @return Property value
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return config.getProperty(key);
     }
 
     /**
      * Get browser type
      */
     public static String getBrowser() {
-        return getProperty("browser");
+        return config.getBrowser();
     }
 
     /**
      * Get base URL for UI application
      */
     public static String getBaseUrl() {
-        return getProperty("base_url");
+        return config.getBaseUrl();
     }
 
     /**
-     * Get API base URL
+     * Check if browser sessions block the configured URL patterns and resource types
      */
-    public static String getApiBaseUrl() {
-        return getProperty("api_base_url");
+    public static boolean isRequestBlockingEnabled() {
+        return config.getBoolean("request_blocking_enabled");
+    }
+
+    /**
+     * Get comma-separated resource types to block (image, font, media, stylesheet)
+     */
+    public static String getBlockResourceTypes() {
+        return config.getString("block_resource_types");
+    }
+
+    /**
+     * Get comma-separated URL patterns to block, with * wildcards
+     */
+    public static String getBlockUrlPatterns() {
+        return config.getString("block_url_patterns");
+    }
+
+    /**
+     * Check if loaded and blocked requests are counted from the browser's performance log
+     */
+    public static boolean isRequestStatsEnabled() {
+        return config.getBoolean("request_stats_enabled");
+    }
+
+    /**
+     * Get file that keeps resource sizes used to estimate bytes saved by blocking (empty = not kept)
+     */
+    public static String getRequestSizeCache() {
+        return config.getString("request_size_cache");
+    }
+
+    /**
+     * Check if UI tests get logged-in sessions injected instead of using the login form
+     */
+    public static boolean isSessionSeedingEnabled() {
+        return config.getBoolean("session_seeding_enabled");
+    }
+
+    /**
+     * Get how long a seeded login session is reused in minutes
+     */
+    public static int getSessionTtl() {
+        return config.getInt("session_ttl_minutes");
+    }
+
+    /**
+     * Get same-origin path opened to inject session cookies, relative to base_url
+     */
+    public static String getSessionSeedPath() {
+        return config.getString("session_seed_path");
     }
 
     /**
-     * Get implicit wait timeout in seconds
+     * Get API base URL
      */
-    public static int getImplicitWait() {
-        return Integer.parseInt(getProperty("implicit_wait"));
+    public static String getApiBaseUrl() {
+        return config.getApiBaseUrl();
     }
 
     /**
      * Get explicit wait timeout in seconds
      */
     public static int getExplicitWait() {
-        return Integer.parseInt(getProperty("explicit_wait"));
+        return config.getExplicitWait();
+    }
+
+    /**
+     * Get first polling interval of explicit waits in milliseconds
+     */
+    public static int getWaitPollMin() {
+        return config.getInt("wait_poll_min_ms");
+    }
+
+    /**
+     * Get longest polling interval of explicit waits in milliseconds
+     */
+    public static int getWaitPollMax() {
+        return config.getInt("wait_poll_max_ms");
     }
 
     /**
      * Get page load timeout in seconds
      */
     public static int getPageLoadTimeout() {
-        return Integer.parseInt(getProperty("page_load_timeout"));
+        return config.getPageLoadTimeout();
+    }
+
+    /**
+     * Get page load strategy: normal, eager or none
+     */
+    public static String getPageLoadStrategy() {
+        return config.getString("page_load_strategy");
+    }
+
+    /**
+     * Get p95 locator resolution time in milliseconds above which a locator is flagged as slow
+     */
+    public static int getLocatorSlowThreshold() {
+        return config.getInt("locator_slow_threshold_ms");
+    }
+
+    /**
+     * Check if page timings and web vitals are captured after page object transitions
+     */
+    public static boolean isPerfCaptureEnabled() {
+        return config.getBoolean("perf_capture_enabled");
+    }
+
+    /**
+     * Get time to first byte budget in milliseconds
+     */
+    public static int getPerfBudgetTtfb() {
+        return config.getInt("perf_budget_ttfb_ms");
+    }
+
+    /**
+     * Get DOMContentLoaded budget in milliseconds
+     */
+    public static int getPerfBudgetDomContentLoaded() {
+        return config.getInt("perf_budget_dom_content_loaded_ms");
+    }
+
+    /**
+     * Get Largest Contentful Paint budget in milliseconds
+     */
+    public static int getPerfBudgetLcp() {
+        return config.getInt("perf_budget_lcp_ms");
+    }
+
+    /**
+     * Get Cumulative Layout Shift budget
+     */
+    public static double getPerfBudgetCls() {
+        return config.getDouble("perf_budget_cls");
+    }
+
+    /**
+     * Check if OverheadProfilerListener times the framework phases of each test
+     */
+    public static boolean isProfilerEnabled() {
+        return config.getBoolean("profiler_enabled");
+    }
+
+    /**
+     * Get directory the overhead profile is written to
+     */
+    public static String getProfilerOutputDir() {
+        return config.getString("profiler_output_dir");
     }
 
     /**
      * Check if headless mode is enabled
      */
     public static boolean isHeadless() {
-        return Boolean.parseBoolean(getProperty("headless"));
+        return config.isHeadless();
     }
 
     /**
      * Get report path
      */
     public static String getReportPath() {
-        return getProperty("report_path");
+        return config.getString("report_path");
+    }
+
+    /**
+     * Get screenshot capture policy (always, failure_only, sampled, never)
+     */
+    public static String getScreenshotPolicy() {
+        return config.getString("screenshot_policy");
+    }
+
+    /**
+     * Get fraction of passing tests captured by the sampled screenshot policy
+     */
+    public static double getScreenshotSampleRate() {
+        return config.getDouble("screenshot_sample_rate");
+    }
+
+    /**
+     * Get screenshot image format (png or jpg)
+     */
+    public static String getScreenshotFormat() {
+        return config.getString("screenshot_format");
+    }
+
+    /**
+     * Get screenshot downscale factor (1.0 keeps original size)
+     */
+    public static double getScreenshotScale() {
+        return config.getDouble("screenshot_scale");
+    }
+
+    /**
+     * Get number of background threads writing screenshots
+     */
+    public static int getScreenshotWriterThreads() {
+        return config.getInt("screenshot_writer_threads");
+    }
+
+    /**
+     * Get maximum number of report events buffered before test threads block
+     */
+    public static int getReportQueueCapacity() {
+        return config.getInt("report_queue_capacity");
+    }
+
+    /**
+     * Get number of pending report events that triggers a flush
+     */
+    public static int getReportFlushBatchSize() {
+        return config.getInt("report_flush_batch_size");
+    }
+
+    /**
+     * Get maximum time between report flushes in milliseconds
+     */
+    public static long getReportFlushInterval() {
+        return config.getLong("report_flush_interval_ms");
     }
 
     /**
      * Get screenshot path
      */
     public static String getScreenshotPath() {
-        return getProperty("screenshot_path");
+        return config.getString("screenshot_path");
     }
 
     /**
      * Get API request timeout in milliseconds
      */
     public static int getApiTimeout() {
-        return Integer.parseInt(getProperty("api_request_timeout"));
+        return config.getApiTimeout();
+    }
+
+    /**
+     * Get API connect timeout in milliseconds
+     */
+    public static int getApiConnectTimeout() {
+        return config.getInt("api_connect_timeout");
+    }
+
+    /**
+     * Get maximum number of pooled API connections
+     */
+    public static int getApiMaxConnections() {
+        return config.getInt("api_max_connections");
+    }
+
+    /**
+     * Get maximum number of pooled API connections per host
+     */
+    public static int getApiMaxConnectionsPerRoute() {
+        return config.getInt("api_max_connections_per_route");
+    }
+
+    /**
+     * Get how long idle API connections are kept alive in milliseconds
+     */
+    public static long getApiKeepAlive() {
+        return config.getLong("api_keep_alive_ms");
+    }
+
+    /**
+     * Check if API tests run against the embedded Fake Store stub
+     */
+    public static boolean isStubServerEnabled() {
+        return config.getBoolean("stub_server_enabled");
+    }
+
+    /**
+     * Get port of the embedded Fake Store stub (0 picks a free port)
+     */
+    public static int getStubServerPort() {
+        return config.getInt("stub_server_port");
+    }
+
+    /**
+     * Get load arrival profile (constant or ramp)
+     */
+    public static String getLoadProfile() {
+        return config.getString("load_profile");
+    }
+
+    /**
+     * Get arrivals per second per scenario at the start of a ramp
+     */
+    public static double getLoadStartRate() {
+        return config.getDouble("load_start_rate");
+    }
+
+    /**
+     * Get arrivals per second per scenario (the end rate of a ramp)
+     */
+    public static double getLoadRate() {
+        return config.getDouble("load_rate");
+    }
+
+    /**
+     * Get how long a load run generates arrivals in seconds
+     */
+    public static int getLoadDuration() {
+        return config.getInt("load_duration_seconds");
+    }
+
+    /**
+     * Get maximum number of load iterations in flight
+     */
+    public static int getLoadMaxConcurrency() {
+        return config.getInt("load_max_concurrency");
+    }
+
+    /**
+     * Check if WebDriver session pooling is enabled
+     */
+    public static boolean isDriverPoolEnabled() {
+        return config.getBoolean("driver_pool_enabled");
+    }
+
+    /**
+     * Get maximum number of pooled WebDriver sessions
+     */
+    public static int getDriverPoolSize() {
+        return config.getInt("driver_pool_size");
+    }
+
+    /**
+     * Get number of tests a pooled WebDriver session serves before it is recycled
+     */
+    public static int getDriverPoolMaxUses() {
+        return config.getInt("driver_pool_max_uses");
+    }
+
+    /**
+     * Get maximum time to wait for a pooled WebDriver session in seconds
+     */
+    public static int getDriverPoolLeaseTimeout() {
+        return config.getInt("driver_pool_lease_timeout");
+    }
+
+    /**
+     * Get TestNG parallel mode (none, methods, classes, tests)
+     */
+    public static String getParallelMode() {
+        return config.getString("parallel_mode");
+    }
+
+    /**
+     * Get number of TestNG worker threads
+     */
+    public static int getThreadCount() {
+        return config.getInt("thread_count");
+    }
+
+    /**
+     * Get thread mode for API fan-out and load iterations (platform or virtual)
+     */
+    public static String getThreadMode() {
+        return config.getString("thread_mode");
+    }
+
+    /**
+     * Get maximum number of tasks running at once on virtual threads
+     */
+    public static int getVirtualThreadMaxConcurrency() {
+        return config.getInt("virtual_thread_max_concurrency");
+    }
+
+    /**
+     * Get location of the resolved driver manifest shared between JVMs
+     */
+    public static String getDriverManifestPath() {
+        return config.getString("driver_manifest_path");
+    }
+
+    /**
+     * Get number of hours a resolved driver manifest stays valid
+     */
+    public static int getDriverManifestTtl() {
+        return config.getInt("driver_manifest_ttl_hours");
+    }
+
+    /**
+     * Check if driver resolution must only use the cached manifest
+     */
+    public static boolean isDriverOffline() {
+        return config.getBoolean("driver_offline");
     }
 
     /**
      * Get valid email for login
      */
     public static String getValidEmail() {
-        return getProperty("valid_email");
+        return config.getString("valid_email");
     }
 
     /**
      * Get valid password for login
      */
     public static String getValidPassword() {
-        return getProperty("valid_password");
+        return config.getString("valid_password");
     }
 
     /**
      * Get invalid email for negative testing
      */
     public static String getInvalidEmail() {
-        return getProperty("invalid_email");
+        return config.getString("invalid_email");
     }
 
     /**
      * Get invalid password for negative testing
      */
     public static String getInvalidPassword() {
-        return getProperty("invalid_password");
+        return config.getString("invalid_password");
     }
 }
@@ -0,0 +1,394 @@
+package config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * FrameworkConfig - Immutable, typed snapshot of the framework configuration
+ * Values are layered (base file, profile file, environment variables, system
+ * properties), parsed and validated once. Reads are plain field or map lookups.
+ */
+public final class FrameworkConfig {
+
+    /**
+     * ValueType - Type a configuration key is parsed and validated as
+     */
+    enum ValueType {
+        STRING, INT, LONG, DOUBLE, BOOLEAN
+    }
+
+    // Every key the framework reads, with its type; all of them must be present
+    private static final Map<String, ValueType> SCHEMA = new LinkedHashMap<>();
+
+    static {
+        SCHEMA.put("browser", ValueType.STRING);
+        SCHEMA.put("headless", ValueType.BOOLEAN);
+        SCHEMA.put("window_size", ValueType.STRING);
+        SCHEMA.put("parallel_mode", ValueType.STRING);
+        SCHEMA.put("thread_count", ValueType.INT);
+        SCHEMA.put("driver_pool_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("driver_pool_size", ValueType.INT);
+        SCHEMA.put("driver_pool_max_uses", ValueType.INT);
+        SCHEMA.put("driver_pool_lease_timeout", ValueType.INT);
+        SCHEMA.put("driver_manifest_path", ValueType.STRING);
+        SCHEMA.put("driver_manifest_ttl_hours", ValueType.INT);
+        SCHEMA.put("driver_offline", ValueType.BOOLEAN);
+        SCHEMA.put("base_url", ValueType.STRING);
+        SCHEMA.put("request_blocking_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("block_resource_types", ValueType.STRING);
+        SCHEMA.put("block_url_patterns", ValueType.STRING);
+        SCHEMA.put("request_stats_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("request_size_cache", ValueType.STRING);
+        SCHEMA.put("session_seeding_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("session_ttl_minutes", ValueType.INT);
+        SCHEMA.put("session_seed_path", ValueType.STRING);
+        SCHEMA.put("api_base_url", ValueType.STRING);
+        SCHEMA.put("api_request_timeout", ValueType.INT);
+        SCHEMA.put("api_connect_timeout", ValueType.INT);
+        SCHEMA.put("api_max_connections", ValueType.INT);
+        SCHEMA.put("api_max_connections_per_route", ValueType.INT);
+        SCHEMA.put("api_keep_alive_ms", ValueType.LONG);
+        SCHEMA.put("stub_server_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("stub_server_port", ValueType.INT);
+        SCHEMA.put("thread_mode", ValueType.STRING);
+        SCHEMA.put("virtual_thread_max_concurrency", ValueType.INT);
+        SCHEMA.put("load_profile", ValueType.STRING);
+        SCHEMA.put("load_start_rate", ValueType.DOUBLE);
+        SCHEMA.put("load_rate", ValueType.DOUBLE);
+        SCHEMA.put("load_duration_seconds", ValueType.INT);
+        SCHEMA.put("load_max_concurrency", ValueType.INT);
+        SCHEMA.put("explicit_wait", ValueType.INT);
+        SCHEMA.put("wait_poll_min_ms", ValueType.INT);
+        SCHEMA.put("wait_poll_max_ms", ValueType.INT);
+        SCHEMA.put("page_load_timeout", ValueType.INT);
+        SCHEMA.put("page_load_strategy", ValueType.STRING);
+        SCHEMA.put("locator_slow_threshold_ms", ValueType.INT);
+        SCHEMA.put("perf_capture_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("profiler_enabled", ValueType.BOOLEAN);
+        SCHEMA.put("profiler_output_dir", ValueType.STRING);
+        SCHEMA.put("perf_budget_ttfb_ms", ValueType.INT);
+        SCHEMA.put("perf_budget_dom_content_loaded_ms", ValueType.INT);
+        SCHEMA.put("perf_budget_lcp_ms", ValueType.INT);
+        SCHEMA.put("perf_budget_cls", ValueType.DOUBLE);
+        SCHEMA.put("report_path", ValueType.STRING);
+        SCHEMA.put("screenshot_path", ValueType.STRING);
+        SCHEMA.put("screenshot_policy", ValueType.STRING);
+        SCHEMA.put("screenshot_sample_rate", ValueType.DOUBLE);
+        SCHEMA.put("screenshot_format", ValueType.STRING);
+        SCHEMA.put("screenshot_scale", ValueType.DOUBLE);
+        SCHEMA.put("screenshot_writer_threads", ValueType.INT);
+        SCHEMA.put("report_queue_capacity", ValueType.INT);
+        SCHEMA.put("report_flush_batch_size", ValueType.INT);
+        SCHEMA.put("report_flush_interval_ms", ValueType.LONG);
+        SCHEMA.put("valid_email", ValueType.STRING);
+        SCHEMA.put("valid_password", ValueType.STRING);
+        SCHEMA.put("invalid_email", ValueType.STRING);
+        SCHEMA.put("invalid_password", ValueType.STRING);
+        SCHEMA.put("config_watch", ValueType.BOOLEAN);
+    }
+
+    private final String profile;
+    private final Map<String, String> rawValues;
+    private final Map<String, Object> typedValues;
+
+    // Hot-path values kept as plain fields
+    private final String browser;
+    private final String baseUrl;
+    private final String apiBaseUrl;
+    private final boolean headless;
+    private final int explicitWait;
+    private final int pageLoadTimeout;
+    private final int apiTimeout;
+
+    private FrameworkConfig(String profile, Map<String, String> rawValues, Map<String, Object> typedValues) {
+        this.profile = profile;
+        this.rawValues = rawValues;
+        this.typedValues = typedValues;
+        this.browser = (String) typedValues.get("browser");
+        this.baseUrl = (String) typedValues.get("base_url");
+        this.apiBaseUrl = (String) typedValues.get("api_base_url");
+        this.headless = (Boolean) typedValues.get("headless");
+        this.explicitWait = (Integer) typedValues.get("explicit_wait");
+        this.pageLoadTimeout = (Integer) typedValues.get("page_load_timeout");
+        this.apiTimeout = (Integer) typedValues.get("api_request_timeout");
+    }
+
+    /**
+     * Build a snapshot from the base configuration file and its overlays
+     * Precedence (lowest to highest): base file, config-&lt;profile&gt;.properties,
+     * environment variables (FRAMEWORK_API_BASE_URL for api_base_url), system properties
+     *
+     * @param baseResource - Classpath name of config.properties
+     * @return Validated FrameworkConfig
+     */
+    public static FrameworkConfig load(String baseResource) {
+        Map<String, String> values = readProperties(baseResource);
+
+        String profile = firstNonEmpty(System.getProperty("profile"),
+                System.getenv("FRAMEWORK_PROFILE"), values.get("profile"));
+        if (profile != null) {
+            String profileResource = getProfileResource(baseResource, profile);
+            if (!ResourceCache.exists(profileResource)) {
+                throw new IllegalStateException("Config profile '" + profile + "' not found: " + profileResource);
+            }
+            values.putAll(readProperties(profileResource));
+        }
+
+        List<String> keys = new ArrayList<>(values.keySet());
+        for (String key : SCHEMA.keySet()) {
+            if (!values.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+        for (String key : keys) {
+            // Namespaced like FRAMEWORK_PROFILE, so ambient variables such as BROWSER are ignored
+            String envValue = System.getenv("FRAMEWORK_" + key.toUpperCase().replace('.', '_'));
+            if (envValue != null) {
+                values.put(key, envValue);
+            }
+            String systemValue = System.getProperty(key);
+            if (systemValue != null) {
+                values.put(key, systemValue);
+            }
+        }
+
+        return fromValues(profile, values);
+    }
+
+    /**
+     * Get the resource backing a profile
+     *
+     * @param baseResource - Classpath name of config.properties
+     * @param profile - Profile name
+     * @return Name of config-&lt;profile&gt;.properties next to the base resource
+     */
+    public static String getProfileResource(String baseResource, String profile) {
+        int slash = baseResource.lastIndexOf('/');
+        return baseResource.substring(0, slash + 1) + "config-" + profile + ".properties";
+    }
+
+    /**
+     * Parse and validate values against the schema
+     * All problems are reported together
+     */
+    static FrameworkConfig fromValues(String profile, Map<String, String> values) {
+        List<String> errors = new ArrayList<>();
+        Map<String, Object> typed = new HashMap<>();
+
+        for (Map.Entry<String, ValueType> entry : SCHEMA.entrySet()) {
+            String key = entry.getKey();
+            String value = values.get(key);
+            if (value == null) {
+                errors.add(key + " is missing");
+                continue;
+            }
+            try {
+                typed.put(key, parse(entry.getValue(), value.trim()));
+            } catch (IllegalArgumentException e) {
+                errors.add(key + "=" + value + " is not a valid " + entry.getValue().name().toLowerCase());
+            }
+        }
+
+        for (String key : new String[]{"thread_count", "driver_pool_size", "driver_pool_max_uses",
+                "screenshot_writer_threads", "report_queue_capacity", "report_flush_batch_size",
+                "api_max_connections", "api_max_connections_per_route",
+                "load_duration_seconds", "load_max_concurrency", "virtual_thread_max_concurrency",
+                "session_ttl_minutes", "locator_slow_threshold_ms", "wait_poll_min_ms", "wait_poll_max_ms",
+                "perf_budget_ttfb_ms", "perf_budget_dom_content_loaded_ms", "perf_budget_lcp_ms"}) {
+            Object value = typed.get(key);
+            if (value instanceof Integer && (Integer) value < 1) {
+                errors.add(key + " must be at least 1");
+            }
+        }
+        Object sampleRate = typed.get("screenshot_sample_rate");
+        if (sampleRate instanceof Double && ((Double) sampleRate < 0.0 || (Double) sampleRate > 1.0)) {
+            errors.add("screenshot_sample_rate must be between 0.0 and 1.0");
+        }
+        Object clsBudget = typed.get("perf_budget_cls");
+        if (clsBudget instanceof Double && (Double) clsBudget < 0.0) {
+            errors.add("perf_budget_cls must not be negative");
+        }
+
+        Object pollMin = typed.get("wait_poll_min_ms");
+        Object pollMax = typed.get("wait_poll_max_ms");
+        if (pollMin instanceof Integer && pollMax instanceof Integer && (Integer) pollMax < (Integer) pollMin) {
+            errors.add("wait_poll_max_ms must not be less than wait_poll_min_ms");
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration: " + String.join("; ", errors));
+        }
+        return new FrameworkConfig(profile, Collections.unmodifiableMap(new HashMap<>(values)),
+                Collections.unmodifiableMap(typed));
+    }
+
+    /**
+     * Build a new snapshot with some values replaced
+     * Used for values only known at runtime, such as the port of a local stub server
+     *
+     * @param overrides - Keys and values to replace
+     * @return Validated FrameworkConfig
+     */
+    public FrameworkConfig withOverrides(Map<String, String> overrides) {
+        if (overrides.isEmpty()) {
+            return this;
+        }
+        Map<String, String> values = new HashMap<>(rawValues);
+        values.putAll(overrides);
+        return fromValues(profile, values);
+    }
+
+    private static Object parse(ValueType type, String value) {
+        switch (type) {
+            case INT:
+                return Integer.parseInt(value);
+            case LONG:
+                return Long.parseLong(value);
+            case DOUBLE:
+                return Double.parseDouble(value);
+            case BOOLEAN:
+                if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException(value);
+                }
+                return Boolean.parseBoolean(value);
+            default:
+                return value;
+        }
+    }
+
+    private static Map<String, String> readProperties(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = ResourceCache.open(resource)) {
+            properties.load(in);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Error loading " + resource + ": " + e.getMessage(), e);
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return values;
+    }
+
+    private static String firstNonEmpty(String... candidates) {
+        for (String candidate : candidates) {
+            if (candidate != null && !candidate.trim().isEmpty()) {
+                return candidate.trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get raw property value
+     *
+     * @param key - Property key
+     * @return Property value, or null if not set
+     */
+    public String getProperty(String key) {
+        return rawValues.get(key);
+    }
+
+    /**
+     * Get a string value declared in the schema, or any raw value
+     *
+     * @param key - Property key
+     * @return Property value, or null if not set
+     */
+    public String getString(String key) {
+        Object value = typedValues.get(key);
+        return value != null ? (String) value : rawValues.get(key);
+    }
+
+    /**
+     * Get a pre-parsed int value declared in the schema
+     *
+     * @param key - Property key
+     * @return Property value
+     */
+    public int getInt(String key) {
+        return (Integer) require(key);
+    }
+
+    /**
+     * Get a pre-parsed long value declared in the schema
+     *
+     * @param key - Property key
+     * @return Property value
+     */
+    public long getLong(String key) {
+        return (Long) require(key);
+    }
+
+    /**
+     * Get a pre-parsed double value declared in the schema
+     *
+     * @param key - Property key
+     * @return Property value
+     */
+    public double getDouble(String key) {
+        return (Double) require(key);
+    }
+
+    /**
+     * Get a pre-parsed boolean value declared in the schema
+     *
+     * @param key - Property key
+     * @return Property value
+     */
+    public boolean getBoolean(String key) {
+        return (Boolean) require(key);
+    }
+
+    private Object require(String key) {
+        Object value = typedValues.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Configuration key '" + key + "' is not declared in the schema");
+        }
+        return value;
+    }
+
+    /**
+     * Get active profile
+     *
+     * @return Profile name, or null when running with the base configuration only
+     */
+    public String getProfile() {
+        return profile;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public String getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public int getExplicitWait() {
+        return explicitWait;
+    }
+
+    public int getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    public int getApiTimeout() {
+        return apiTimeout;
+    }
+}
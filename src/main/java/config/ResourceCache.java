@@ -0,0 +1,136 @@
+package config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ResourceCache - Loads framework resources from the classpath, read once per JVM
+ * Works the same from the IDE, surefire forks with any working directory and the
+ * benchmark jar. An existing filesystem path still takes precedence so callers can
+ * point at a file outside the classpath.
+ */
+public class ResourceCache {
+    // Legacy source-tree prefixes that map onto classpath roots
+    private static final String[] SOURCE_PREFIXES = {"src/test/resources/", "src/main/resources/"};
+
+    private static final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    /**
+     * Get the contents of a resource
+     *
+     * @param name - Classpath resource name (e.g. "testdata.json") or filesystem path
+     * @return Resource bytes; the array is shared and must not be modified
+     */
+    public static byte[] read(String name) {
+        return contents.computeIfAbsent(name, ResourceCache::load);
+    }
+
+    /**
+     * Open a cached resource as a stream
+     *
+     * @param name - Classpath resource name or filesystem path
+     * @return InputStream over the cached bytes
+     */
+    public static InputStream open(String name) {
+        return new ByteArrayInputStream(read(name));
+    }
+
+    /**
+     * Open a resource for streaming without caching it
+     * Used for large datasets that should never be held in memory
+     *
+     * @param name - Classpath resource name or filesystem path
+     * @return InputStream reading the resource
+     */
+    public static InputStream openUncached(String name) {
+        try {
+            Path file = getFile(name);
+            if (file != null) {
+                return Files.newInputStream(file);
+            }
+            URL url = locate(name);
+            if (url == null) {
+                throw new IllegalStateException("Resource not found on classpath or filesystem: " + name);
+            }
+            return url.openStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening resource " + name, e);
+        }
+    }
+
+    /**
+     * Get the file backing a resource, if it lives on the filesystem
+     * Resources inside a jar have no file and never change
+     *
+     * @param name - Classpath resource name or filesystem path
+     * @return Path to the backing file, or null for jar resources
+     */
+    public static Path getFile(String name) {
+        Path direct = Paths.get(name);
+        if (Files.isRegularFile(direct)) {
+            return direct;
+        }
+        URL url = locate(name);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return Paths.get(url.toURI());
+            } catch (URISyntaxException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if a resource exists
+     *
+     * @param name - Classpath resource name or filesystem path
+     * @return true if the resource can be read
+     */
+    public static boolean exists(String name) {
+        return Files.isRegularFile(Paths.get(name)) || locate(name) != null;
+    }
+
+    /**
+     * Drop a cached resource so the next read goes back to its source
+     *
+     * @param name - Classpath resource name or filesystem path
+     */
+    public static void invalidate(String name) {
+        contents.remove(name);
+    }
+
+    private static byte[] load(String name) {
+        try (InputStream in = openUncached(name)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading resource " + name, e);
+        }
+    }
+
+    private static URL locate(String name) {
+        String resourceName = toResourceName(name);
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        URL url = loader != null ? loader.getResource(resourceName) : null;
+        return url != null ? url : ResourceCache.class.getClassLoader().getResource(resourceName);
+    }
+
+    private static String toResourceName(String name) {
+        String normalized = name.replace('\\', '/');
+        for (String prefix : SOURCE_PREFIXES) {
+            if (normalized.startsWith(prefix)) {
+                return normalized.substring(prefix.length());
+            }
+        }
+        return normalized.startsWith("/") ? normalized.substring(1) : normalized;
+    }
+}
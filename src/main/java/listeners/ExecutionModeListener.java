@@ -0,0 +1,46 @@
+package listeners;
+
+import config.ConfigReader;
+import java.util.List;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import utils.ExecutorFactory;
+
+/**
+ * ExecutionModeListener - Applies the configured parallel mode to the suite
+ * Lets the same suite file run serially or in parallel without editing the XML
+ *
+ * parallel_mode: none, methods, classes or tests
+ * thread_count: number of TestNG worker threads
+ * thread_mode: platform or virtual threads for API fan-out and load iterations;
+ * TestNG 7.8 has no pluggable worker pool, so its own workers stay platform threads
+ * All can be overridden with -Dparallel_mode=... and -Dthread_count=... like any config key
+ */
+public class ExecutionModeListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = ConfigReader.getParallelMode();
+        int threadCount = ConfigReader.getThreadCount();
+
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+        if (parallelMode == null) {
+            throw new IllegalArgumentException("Unsupported parallel_mode '" + mode
+                    + "'. Use none, methods, classes or tests.");
+        }
+        ExecutorFactory.ThreadMode threadMode = ExecutorFactory.ThreadMode.fromString(ConfigReader.getThreadMode());
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("thread_count must be at least 1, got: " + threadCount);
+        }
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(threadCount);
+            System.out.println("Suite '" + suite.getName() + "' running with parallel=" + parallelMode
+                    + ", threads=" + threadCount + ", api thread mode=" + threadMode.name().toLowerCase()
+                    + (ExecutorFactory.isVirtualMode() ? " (max " + ConfigReader.getVirtualThreadMaxConcurrency()
+                    + " in flight)" : ""));
+        }
+    }
+}
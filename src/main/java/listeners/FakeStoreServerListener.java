@@ -0,0 +1,46 @@
+package listeners;
+
+import config.ConfigReader;
+import java.io.IOException;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import stub.FakeStoreServer;
+import utils.ApiClient;
+
+/**
+ * FakeStoreServerListener - Starts the embedded Fake Store stub for the suite
+ * Only active when stub_server_enabled is set (e.g. by the "local" profile);
+ * api_base_url is pointed at the stub before any API test runs
+ */
+public class FakeStoreServerListener implements ISuiteListener {
+    private FakeStoreServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.isStubServerEnabled() || server != null) {
+            return;
+        }
+        FakeStoreServer stub = new FakeStoreServer(ConfigReader.getStubServerPort());
+        try {
+            stub.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start Fake Store stub on port "
+                    + ConfigReader.getStubServerPort() + ": " + e.getMessage(), e);
+        }
+        server = stub;
+        ConfigReader.setOverride("api_base_url", stub.getBaseUrl());
+        ApiClient.reset();
+        System.out.println("Fake Store stub listening on " + stub.getBaseUrl());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server == null) {
+            return;
+        }
+        ApiClient.reset();
+        ConfigReader.clearOverride("api_base_url");
+        server.stop();
+        server = null;
+    }
+}
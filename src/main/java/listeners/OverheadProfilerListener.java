@@ -0,0 +1,107 @@
+package listeners;
+
+import config.ConfigReader;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import utils.LatencyHistogram;
+import utils.OverheadProfiler;
+
+/**
+ * OverheadProfilerListener - Shows where suite time goes
+ * Times @BeforeMethod, test body and @AfterMethod of every test; the framework
+ * reports driver acquire, waits, report calls, screenshot and driver release
+ * inside them through OverheadProfiler. After the last suite (including the
+ * final report flush) it writes per-test and aggregate JSON and an HTML table
+ * to profiler_output_dir.
+ *
+ * profiler_enabled=false leaves the listener registered but inactive
+ */
+public class OverheadProfilerListener implements IInvokedMethodListener, IExecutionListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        OverheadProfiler.Window window = windowOf(method);
+        if (window != null && ConfigReader.isProfilerEnabled()) {
+            OverheadProfiler.startWindow(window);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        OverheadProfiler.Window window = windowOf(method);
+        if (window == null) {
+            return;
+        }
+        if (window == OverheadProfiler.Window.BODY) {
+            OverheadProfiler.endWindow(testName(testResult), status(testResult));
+        } else {
+            OverheadProfiler.endWindow(null, null);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (!ConfigReader.isProfilerEnabled()) {
+            return;
+        }
+        OverheadProfiler.finishAll();
+        if (OverheadProfiler.getProfiles().isEmpty()) {
+            return;
+        }
+        System.out.println("Framework overhead (" + OverheadProfiler.getProfiles().size() + " tests):");
+        for (Map.Entry<OverheadProfiler.Phase, LatencyHistogram> entry
+                : OverheadProfiler.getPhaseHistograms().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            System.out.println(String.format("  %-15s mean=%.1f ms p95=%.1f ms max=%.1f ms",
+                    entry.getKey().getLabel(), histogram.getMeanMillis(), histogram.getPercentileMillis(95),
+                    histogram.getMaxMillis()));
+        }
+        OverheadProfiler.getSuitePhases().forEach((name, nanos) ->
+                System.out.println(String.format("  %-15s %.1f ms (once per run)", name, nanos / 1e6)));
+        try {
+            OverheadProfiler.write(Paths.get(ConfigReader.getProfilerOutputDir()));
+        } catch (IOException e) {
+            System.err.println("Could not write overhead profile: " + e.getMessage());
+        }
+    }
+
+    private static OverheadProfiler.Window windowOf(IInvokedMethod method) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (method.isTestMethod()) {
+            return OverheadProfiler.Window.BODY;
+        }
+        if (testMethod.isBeforeMethodConfiguration()) {
+            return OverheadProfiler.Window.SETUP;
+        }
+        if (testMethod.isAfterMethodConfiguration()) {
+            return OverheadProfiler.Window.TEARDOWN;
+        }
+        return null;
+    }
+
+    private static String testName(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        return parameters == null || parameters.length == 0 ? name : name + Arrays.toString(parameters);
+    }
+
+    private static String status(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return "UNKNOWN";
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import utils.Locators;
+import utils.OverheadProfiler;
+import utils.PagePerformance;
+import utils.ReportManager;
+import utils.RequestBlocker;
+import utils.ScreenshotUtils;
+import utils.WaitEngine;
+
+/**
+ * ReportListener - Writes the Extent report once per suite
+ * Test threads never flush; this adds the run summaries, then waits for
+ * pending screenshots and the background writer at suite end
+ */
+public class ReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Locators.report();
+        WaitEngine.report();
+        RequestBlocker.report();
+        PagePerformance.report();
+        OverheadProfiler.timeSuite("screenshot writes", () -> ScreenshotUtils.awaitPendingWrites(60));
+        OverheadProfiler.timeSuite("report flush", ReportManager::flushAndWait);
+    }
+}
@@ -0,0 +1,104 @@
+package load;
+
+import config.ConfigReader;
+import java.time.Duration;
+
+/**
+ * LoadProfile - Arrival schedule for an open-model load run
+ * Arrivals follow the schedule whether or not earlier requests have completed,
+ * so a slow system sees a growing backlog instead of a slower client.
+ * The rate is either constant or ramps linearly between two values.
+ */
+public class LoadProfile {
+    private final double startRate;
+    private final double endRate;
+    private final Duration duration;
+
+    private LoadProfile(double startRate, double endRate, Duration duration) {
+        if (startRate < 0 || endRate < 0 || (startRate == 0 && endRate == 0)) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Load duration must be positive");
+        }
+        this.startRate = startRate;
+        this.endRate = endRate;
+        this.duration = duration;
+    }
+
+    /**
+     * Constant arrival rate
+     *
+     * @param perSecond - Arrivals per second for each scenario
+     * @param duration - How long to generate arrivals
+     * @return LoadProfile
+     */
+    public static LoadProfile constant(double perSecond, Duration duration) {
+        return new LoadProfile(perSecond, perSecond, duration);
+    }
+
+    /**
+     * Linear ramp between two arrival rates
+     *
+     * @param fromPerSecond - Rate at the start of the run
+     * @param toPerSecond - Rate at the end of the run
+     * @param duration - How long to generate arrivals
+     * @return LoadProfile
+     */
+    public static LoadProfile ramp(double fromPerSecond, double toPerSecond, Duration duration) {
+        return new LoadProfile(fromPerSecond, toPerSecond, duration);
+    }
+
+    /**
+     * Build the profile from load_profile, load_start_rate, load_rate and load_duration_seconds
+     *
+     * @return LoadProfile
+     */
+    public static LoadProfile fromConfig() {
+        Duration duration = Duration.ofSeconds(ConfigReader.getLoadDuration());
+        String type = ConfigReader.getLoadProfile();
+        switch (type.trim().toLowerCase()) {
+            case "constant":
+                return constant(ConfigReader.getLoadRate(), duration);
+            case "ramp":
+                return ramp(ConfigReader.getLoadStartRate(), ConfigReader.getLoadRate(), duration);
+            default:
+                throw new IllegalArgumentException("Unknown load_profile '" + type + "', expected constant or ramp");
+        }
+    }
+
+    /**
+     * Get the offset of the k-th arrival from the start of the run
+     * Solves rate(t) integrated over [0, t] = k for t
+     *
+     * @param k - Zero-based arrival number
+     * @return Offset in nanoseconds, or -1 once the arrival falls after the end of the run
+     */
+    public long arrivalOffsetNanos(long k) {
+        double seconds = duration.toNanos() / 1e9;
+        double slope = (endRate - startRate) / seconds;
+        double t;
+        if (slope == 0) {
+            t = k / startRate;
+        } else {
+            // startRate * t + slope / 2 * t^2 = k
+            double discriminant = startRate * startRate + 2 * slope * k;
+            if (discriminant < 0) {
+                return -1;
+            }
+            t = (-startRate + Math.sqrt(discriminant)) / slope;
+        }
+        return t >= seconds ? -1 : (long) (t * 1e9);
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return startRate == endRate
+                ? String.format("constant %.1f/s for %ds", startRate, duration.getSeconds())
+                : String.format("ramp %.1f/s to %.1f/s over %ds", startRate, endRate, duration.getSeconds());
+    }
+}
@@ -0,0 +1,97 @@
+package load;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import utils.LatencyHistogram;
+
+/**
+ * LoadResult - Outcome of one scenario in a load run
+ * Latency is measured from each arrival's scheduled time, so queueing inside
+ * the client and the executor is included
+ */
+public class LoadResult {
+    private final String scenario;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    private volatile long elapsedNanos;
+
+    LoadResult(String scenario) {
+        this.scenario = scenario;
+    }
+
+    void recordScheduled() {
+        scheduled.increment();
+    }
+
+    void recordSuccess(long latencyNanos) {
+        latency.record(latencyNanos);
+        successes.increment();
+    }
+
+    void recordError(long latencyNanos, Throwable error) {
+        latency.record(latencyNanos);
+        errors.increment();
+        firstError.compareAndSet(null, error);
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return latency;
+    }
+
+    /**
+     * @return Arrivals generated by the profile
+     */
+    public long getScheduled() {
+        return scheduled.sum();
+    }
+
+    /**
+     * @return Iterations that finished, successfully or not
+     */
+    public long getCompleted() {
+        return successes.sum() + errors.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return First failure thrown by the scenario, or null if none failed
+     */
+    public Throwable getFirstError() {
+        return firstError.get();
+    }
+
+    /**
+     * @return Completed iterations per second over the whole run
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0.0 : getCompleted() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return Fraction of completed iterations that failed, between 0 and 1
+     */
+    public double getErrorRate() {
+        long completed = getCompleted();
+        return completed == 0 ? 0.0 : getErrors() / (double) completed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: scheduled=%d completed=%d throughput=%.1f/s errors=%.2f%% %s",
+                scenario, getScheduled(), getCompleted(), getThroughput(), getErrorRate() * 100, latency);
+    }
+}
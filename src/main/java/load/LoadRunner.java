@@ -0,0 +1,166 @@
+package load;
+
+import config.ConfigReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import utils.ExecutorFactory;
+import utils.LatencyHistogram;
+import utils.ReportManager;
+
+/**
+ * LoadRunner - Open-model load generator for LoadScenarios
+ * Each scenario gets a dispatcher thread that releases arrivals on the
+ * LoadProfile schedule into a shared worker pool. Arrivals never wait for
+ * earlier iterations; if all workers are busy they queue, and the queueing
+ * time is part of their measured latency.
+ *
+ * <pre>
+ * List&lt;LoadResult&gt; results = LoadRunner.with(LoadProfile.fromConfig())
+ *         .scenario(LoadScenario.of("create cart", createCart))
+ *         .run();
+ * </pre>
+ */
+public class LoadRunner {
+    // Time allowed for queued iterations to finish after the last arrival
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final LoadProfile profile;
+    private final List<LoadScenario> scenarios = new ArrayList<>();
+    private int maxConcurrency = ConfigReader.getLoadMaxConcurrency();
+
+    private LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @param profile - Arrival schedule applied to every scenario
+     * @return LoadRunner to add scenarios to
+     */
+    public static LoadRunner with(LoadProfile profile) {
+        return new LoadRunner(profile);
+    }
+
+    /**
+     * @param scenario - Scenario to run at the profile's arrival rate
+     */
+    public LoadRunner scenario(LoadScenario scenario) {
+        scenarios.add(scenario);
+        return this;
+    }
+
+    /**
+     * @param threads - Maximum iterations in flight across all scenarios in platform
+     *                  thread mode; virtual mode uses virtual_thread_max_concurrency
+     */
+    public LoadRunner maxConcurrency(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.maxConcurrency = threads;
+        return this;
+    }
+
+    /**
+     * Generate load for the profile's duration, wait for in-flight iterations
+     * and attach the per-scenario summary to the report
+     *
+     * @return One result per scenario, in the order they were added
+     */
+    public List<LoadResult> run() {
+        if (scenarios.isEmpty()) {
+            throw new IllegalStateException("No load scenarios added");
+        }
+        System.out.println("Load run: " + profile + ", " + scenarios.size() + " scenario(s), max "
+                + ExecutorFactory.getConcurrency(maxConcurrency) + " in flight on "
+                + (ExecutorFactory.isVirtualMode() ? "virtual" : "platform") + " threads");
+
+        // Fixed pool with an unbounded queue, or capped virtual threads: the schedule is
+        // never throttled by the client, backlog shows up as latency instead
+        ExecutorService workers = ExecutorFactory.newExecutor("load-worker", maxConcurrency);
+        List<LoadResult> results = new ArrayList<>();
+        List<Thread> dispatchers = new ArrayList<>();
+        long startNanos = System.nanoTime();
+
+        for (LoadScenario scenario : scenarios) {
+            LoadResult result = new LoadResult(scenario.getName());
+            results.add(result);
+            Thread dispatcher = new Thread(() -> dispatch(scenario, result, workers, startNanos),
+                    "load-dispatch-" + scenario.getName());
+            dispatcher.setDaemon(true);
+            dispatchers.add(dispatcher);
+            dispatcher.start();
+        }
+
+        try {
+            for (Thread dispatcher : dispatchers) {
+                dispatcher.join();
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Load run: iterations still running after " + DRAIN_TIMEOUT_SECONDS
+                        + "s drain timeout, they are not counted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        for (LoadResult result : results) {
+            result.finish(elapsedNanos);
+            System.out.println("Load result " + result);
+        }
+        ReportManager.logInfo(toHtml(profile.toString(), results));
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Per-scenario throughput, error rate and latency percentiles as a table
+     */
+    private static String toHtml(String profile, List<LoadResult> results) {
+        StringBuilder table = new StringBuilder();
+        table.append("<b>Load: ").append(profile).append("</b>")
+                .append("<table class='table table-sm'><tr><th>Scenario</th><th>Scheduled</th><th>Completed</th>")
+                .append("<th>Throughput (/s)</th><th>Error rate</th><th>p50 (ms)</th><th>p95 (ms)</th>")
+                .append("<th>p99 (ms)</th><th>Max (ms)</th></tr>");
+        for (LoadResult result : results) {
+            LatencyHistogram latency = result.getHistogram();
+            table.append(String.format("<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f%%</td>"
+                            + "<td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%.1f</td></tr>",
+                    result.getScenario(), result.getScheduled(), result.getCompleted(), result.getThroughput(),
+                    result.getErrorRate() * 100, latency.getPercentileMillis(50), latency.getPercentileMillis(95),
+                    latency.getPercentileMillis(99), latency.getMaxMillis()));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+
+    private void dispatch(LoadScenario scenario, LoadResult result, ExecutorService workers, long startNanos) {
+        Runnable action = scenario.getAction();
+        for (long arrival = 0; ; arrival++) {
+            long offset = profile.arrivalOffsetNanos(arrival);
+            if (offset < 0) {
+                return;
+            }
+            long intendedStart = startNanos + offset;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            result.recordScheduled();
+            workers.execute(() -> {
+                try {
+                    action.run();
+                    result.recordSuccess(System.nanoTime() - intendedStart);
+                } catch (RuntimeException e) {
+                    result.recordError(System.nanoTime() - intendedStart, e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package load;
+
+/**
+ * LoadScenario - A named unit of work started once per arrival
+ * The action throws to report a failed iteration
+ */
+public class LoadScenario {
+    private final String name;
+    private final Runnable action;
+
+    private LoadScenario(String name, Runnable action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    /**
+     * @param name - Name shown in results, e.g. "create cart"
+     * @param action - One iteration of the scenario
+     * @return LoadScenario
+     */
+    public static LoadScenario of(String name, Runnable action) {
+        return new LoadScenario(name, action);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Runnable getAction() {
+        return action;
+    }
+}
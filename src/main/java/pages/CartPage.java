@@ -3,8 +3,13 @@ package main.java.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.DomSnapshot;
+import utils.Locators;
+import utils.PagePerformance;
+import utils.ReadinessContract;
 import utils.WaitUtils;
 import java.util.List;
+import java.util.Map;
 
 /**
  * CartPage - Page Object for Shopping Cart Page
@@ -15,14 +20,31 @@ public class CartPage {
     private WaitUtils waitUtils;
 
     // Locators
-    private By cartPageTitle = By.xpath("//h2[contains(text(), 'Shopping Cart')]");
-    private By cartTable = By.xpath("//table[@class='table table-condensed table-striped']");
-    private By cartItems = By.xpath("//tr[@class='cart_item']");
-    private By itemPrice = By.xpath(".//td[@class='cart_price']/p");
-    private By itemQuantity = By.xpath(".//td[@class='cart_quantity']/button");
-    private By removeButton = By.xpath(".//a[@class='cart_quantity_delete']");
-    private By proceedCheckoutButton = By.xpath("//a[@class='btn btn-default check_out']");
-    private By continueShopping = By.xpath("//a[@class='btn btn-default']");
+    private By cartPageTitle = Locators.of("CartPage.cartPageTitle",
+            By.xpath("//h2[contains(text(), 'Shopping Cart')]"));
+    private By cartTable = Locators.of("CartPage.cartTable",
+            By.cssSelector("table.table-condensed.table-striped"),
+            By.xpath("//table[@class='table table-condensed table-striped']"));
+    private By cartItems = Locators.of("CartPage.cartItems",
+            By.cssSelector("tr.cart_item"), By.xpath("//tr[@class='cart_item']"));
+    private By proceedCheckoutButton = Locators.of("CartPage.proceedCheckoutButton",
+            By.cssSelector("a.check_out"), By.xpath("//a[@class='btn btn-default check_out']"));
+    private By continueShopping = Locators.of("CartPage.continueShopping", By.xpath("//a[@class='btn btn-default']"));
+
+    // Readiness: what must hold before the page is usable (see page_load_strategy)
+    private ReadinessContract readiness = ReadinessContract.forPage("CartPage")
+            .element(cartPageTitle)
+            .build();
+
+    // Cart row snapshot: CSS selectors read in one script call, relative to each row
+    private static final String CART_ROW = "tr.cart_item";
+    private static final Map<String, String> ROW_TEXT = Map.of(
+            "name", "td.cart_description h4",
+            "price", "td.cart_price p",
+            "quantity", "td.cart_quantity button",
+            "total", "td.cart_total p");
+    private static final Map<String, String> ROW_HANDLES = Map.of(
+            "remove", "a.cart_quantity_delete");
 
     public CartPage(WebDriver driver) {
         this.driver = driver;
@@ -32,14 +54,20 @@ public class CartPage {
     /**
      * Verify cart page is loaded
      *
-     * @return true if cart page title is visible
+     * @return true if the page's readiness contract holds
      */
     public boolean isCartPageLoaded() {
-        try {
-            return driver.findElement(cartPageTitle).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return readiness.isMet(driver);
+    }
+
+    /**
+     * Wait until the page is usable according to its readiness contract
+     *
+     * @return this page
+     */
+    public CartPage waitUntilReady() {
+        waitUtils.waitForReadiness(readiness);
+        return this;
     }
 
     /**
@@ -48,7 +76,7 @@ public class CartPage {
      * @return List of cart item elements
      */
     public List<WebElement> getCartItems() {
-        waitUtils.waitForElementToBeVisible(cartPageTitle);
+        waitUntilReady();
         return driver.findElements(cartItems);
     }
 
@@ -61,6 +89,17 @@ public class CartPage {
         return getCartItems().size();
     }
 
+    /**
+     * Get a snapshot of every cart row (name, price, quantity, total, remove handle)
+     * Read in a single WebDriver call however many items the cart holds
+     *
+     * @return Cart rows in display order
+     */
+    public List<DomSnapshot.Row> getCartRows() {
+        waitUntilReady();
+        return DomSnapshot.of(driver, CART_ROW, ROW_TEXT, ROW_HANDLES);
+    }
+
     /**
      * Verify product is in cart
      *
@@ -68,14 +107,7 @@ public class CartPage {
      * @return true if product is found in cart
      */
     public boolean isProductInCart(String productName) {
-        List<WebElement> items = getCartItems();
-        for (WebElement item : items) {
-            String itemText = item.getText();
-            if (itemText.contains(productName)) {
-                return true;
-            }
-        }
-        return false;
+        return findRow(productName) != null;
     }
 
     /**
@@ -85,14 +117,19 @@ public class CartPage {
      * @return Price of the product
      */
     public String getProductPrice(String productName) {
-        List<WebElement> items = getCartItems();
-        for (WebElement item : items) {
-            String itemText = item.getText();
-            if (itemText.contains(productName)) {
-                return item.findElement(itemPrice).getText();
-            }
-        }
-        return "";
+        DomSnapshot.Row row = findRow(productName);
+        return row != null ? row.get("price") : "";
+    }
+
+    /**
+     * Get product quantity from cart
+     *
+     * @param productName - Name of the product
+     * @return Quantity shown for the product, or empty if it is not in the cart
+     */
+    public String getProductQuantity(String productName) {
+        DomSnapshot.Row row = findRow(productName);
+        return row != null ? row.get("quantity") : "";
     }
 
     /**
@@ -101,23 +138,29 @@ public class CartPage {
      * @param productName - Name of the product to remove
      */
     public void removeProductFromCart(String productName) {
-        List<WebElement> items = getCartItems();
-        for (WebElement item : items) {
-            String itemText = item.getText();
-            if (itemText.contains(productName)) {
-                WebElement removeBtn = item.findElement(removeButton);
-                removeBtn.click();
-                break;
-            }
+        DomSnapshot.Row row = findRow(productName);
+        if (row != null && row.getHandle("remove") != null) {
+            row.getHandle("remove").click();
         }
     }
 
+    /**
+     * Find the first cart row whose text contains the product name
+     */
+    private DomSnapshot.Row findRow(String productName) {
+        return DomSnapshot.find(getCartRows(), row -> row.getText().contains(productName));
+    }
+
     /**
      * Click proceed to checkout button
      */
     public void clickProceedCheckout() {
         WebElement proceedBtn = waitUtils.waitForElementToBeClickable(proceedCheckoutButton);
         proceedBtn.click();
+        // Logged out, the button opens a login modal instead of the checkout page
+        if (new CheckoutPage(driver).isCheckoutPageLoaded()) {
+            PagePerformance.capture(driver, "CheckoutPage", "CartPage.clickProceedCheckout");
+        }
     }
 
     /**
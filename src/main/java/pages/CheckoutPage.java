@@ -3,6 +3,8 @@ package main.java.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.Locators;
+import utils.ReadinessContract;
 import utils.WaitUtils;
 
 /**
@@ -14,17 +16,33 @@ public class CheckoutPage {
     private WaitUtils waitUtils;
 
     // Locators
-    private By checkoutPageTitle = By.xpath("//h2[contains(text(), 'Review Your Order')]");
-    private By firstNameInput = By.xpath("//input[@name='first_name']");
-    private By lastNameInput = By.xpath("//input[@name='last_name']");
-    private By addressInput = By.xpath("//textarea[@name='address1']");
-    private By countrySelect = By.xpath("//select[@name='country']");
-    private By stateInput = By.xpath("//input[@name='state']");
-    private By cityInput = By.xpath("//input[@name='city']");
-    private By zipCodeInput = By.xpath("//input[@name='zipcode']");
-    private By phoneInput = By.xpath("//input[@name='mobile_number']");
-    private By placeOrderButton = By.xpath("//a[@data-qa='place-order']");
-    private By commentTextarea = By.xpath("//textarea[@name='comment']");
+    private By checkoutPageTitle = Locators.of("CheckoutPage.checkoutPageTitle",
+            By.xpath("//h2[contains(text(), 'Review Your Order')]"));
+    private By firstNameInput = Locators.of("CheckoutPage.firstNameInput",
+            By.cssSelector("input[name='first_name']"), By.xpath("//input[@name='first_name']"));
+    private By lastNameInput = Locators.of("CheckoutPage.lastNameInput",
+            By.cssSelector("input[name='last_name']"), By.xpath("//input[@name='last_name']"));
+    private By addressInput = Locators.of("CheckoutPage.addressInput",
+            By.cssSelector("textarea[name='address1']"), By.xpath("//textarea[@name='address1']"));
+    private By countrySelect = Locators.of("CheckoutPage.countrySelect",
+            By.cssSelector("select[name='country']"), By.xpath("//select[@name='country']"));
+    private By stateInput = Locators.of("CheckoutPage.stateInput",
+            By.cssSelector("input[name='state']"), By.xpath("//input[@name='state']"));
+    private By cityInput = Locators.of("CheckoutPage.cityInput",
+            By.cssSelector("input[name='city']"), By.xpath("//input[@name='city']"));
+    private By zipCodeInput = Locators.of("CheckoutPage.zipCodeInput",
+            By.cssSelector("input[name='zipcode']"), By.xpath("//input[@name='zipcode']"));
+    private By phoneInput = Locators.of("CheckoutPage.phoneInput",
+            By.cssSelector("input[name='mobile_number']"), By.xpath("//input[@name='mobile_number']"));
+    private By placeOrderButton = Locators.of("CheckoutPage.placeOrderButton",
+            By.cssSelector("a[data-qa='place-order']"), By.xpath("//a[@data-qa='place-order']"));
+    private By commentTextarea = Locators.of("CheckoutPage.commentTextarea",
+            By.cssSelector("textarea[name='comment']"), By.xpath("//textarea[@name='comment']"));
+
+    // Readiness: what must hold before the page is usable (see page_load_strategy)
+    private ReadinessContract readiness = ReadinessContract.forPage("CheckoutPage")
+            .element(checkoutPageTitle)
+            .build();
 
     public CheckoutPage(WebDriver driver) {
         this.driver = driver;
@@ -34,14 +52,20 @@ public class CheckoutPage {
     /**
      * Verify checkout page is loaded
      *
-     * @return true if checkout page title is visible
+     * @return true if the page's readiness contract holds
      */
     public boolean isCheckoutPageLoaded() {
-        try {
-            return driver.findElement(checkoutPageTitle).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return readiness.isMet(driver);
+    }
+
+    /**
+     * Wait until the page is usable according to its readiness contract
+     *
+     * @return this page
+     */
+    public CheckoutPage waitUntilReady() {
+        waitUtils.waitForReadiness(readiness);
+        return this;
     }
 
     /**
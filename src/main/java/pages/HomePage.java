@@ -3,6 +3,9 @@ package main.java.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.Locators;
+import utils.PagePerformance;
+import utils.ReadinessContract;
 import utils.WaitUtils;
 
 /**
@@ -14,12 +17,23 @@ public class HomePage {
     private WaitUtils waitUtils;
 
     // Locators
-    private By homePageHeading = By.xpath("//h2[contains(text(), 'Features')]");
-    private By loginLink = By.xpath("//a[contains(text(), 'Signup / Login')]");
-    private By productsLink = By.xpath("//a[contains(text(), 'Products')]");
-    private By cartLink = By.xpath("//a[contains(text(), 'Cart')]");
-    private By logoutLink = By.xpath("//a[contains(text(), 'Logout')]");
-    private By homeLink = By.xpath("//a[contains(text(), 'Home')]");
+    private By homePageHeading = Locators.of("HomePage.homePageHeading",
+            By.xpath("//h2[contains(text(), 'Features')]"));
+    private By loginLink = Locators.of("HomePage.loginLink",
+            By.cssSelector("#header .shop-menu a[href='/login']"), By.xpath("//a[contains(text(), 'Signup / Login')]"));
+    private By productsLink = Locators.of("HomePage.productsLink",
+            By.cssSelector("#header .shop-menu a[href='/products']"), By.xpath("//a[contains(text(), 'Products')]"));
+    private By cartLink = Locators.of("HomePage.cartLink",
+            By.cssSelector("#header .shop-menu a[href='/view_cart']"), By.xpath("//a[contains(text(), 'Cart')]"));
+    private By logoutLink = Locators.of("HomePage.logoutLink",
+            By.cssSelector("#header .shop-menu a[href='/logout']"), By.xpath("//a[contains(text(), 'Logout')]"));
+    private By homeLink = Locators.of("HomePage.homeLink",
+            By.cssSelector("#header .shop-menu a[href='/']"), By.xpath("//a[contains(text(), 'Home')]"));
+
+    // Readiness: what must hold before the page is usable (see page_load_strategy)
+    private ReadinessContract readiness = ReadinessContract.forPage("HomePage")
+            .element(homePageHeading)
+            .build();
 
     public HomePage(WebDriver driver) {
         this.driver = driver;
@@ -29,46 +43,64 @@ public class HomePage {
     /**
      * Verify home page is loaded
      *
-     * @return true if home page heading is visible
+     * @return true if the page's readiness contract holds
      */
     public boolean isHomePageLoaded() {
-        try {
-            return driver.findElement(homePageHeading).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return readiness.isMet(driver);
+    }
+
+    /**
+     * Wait until the page is usable according to its readiness contract
+     *
+     * @return this page
+     */
+    public HomePage waitUntilReady() {
+        waitUtils.waitForReadiness(readiness);
+        return this;
     }
 
     /**
      * Click on Login/Signup link
+     * Returns once the login page is usable
      */
     public void clickLoginLink() {
         WebElement loginElement = waitUtils.waitForElementToBeClickable(loginLink);
         loginElement.click();
+        new LoginPage(driver).waitUntilReady();
+        PagePerformance.capture(driver, "LoginPage", "HomePage.clickLoginLink");
     }
 
     /**
      * Click on Products link
+     * Returns once the products page is usable
      */
     public void clickProductsLink() {
         WebElement productsElement = waitUtils.waitForElementToBeClickable(productsLink);
         productsElement.click();
+        new ProductsPage(driver).waitUntilReady();
+        PagePerformance.capture(driver, "ProductsPage", "HomePage.clickProductsLink");
     }
 
     /**
      * Click on Cart link
+     * Returns once the cart page is usable
      */
     public void clickCartLink() {
         WebElement cartElement = waitUtils.waitForElementToBeClickable(cartLink);
         cartElement.click();
+        new CartPage(driver).waitUntilReady();
+        PagePerformance.capture(driver, "CartPage", "HomePage.clickCartLink");
     }
 
     /**
      * Click on Logout link
+     * Returns once the login page it redirects to is usable
      */
     public void clickLogoutLink() {
         WebElement logoutElement = waitUtils.waitForElementToBeClickable(logoutLink);
         logoutElement.click();
+        new LoginPage(driver).waitUntilReady();
+        PagePerformance.capture(driver, "LoginPage", "HomePage.clickLogoutLink");
     }
 
     /**
@@ -77,11 +109,7 @@ public class HomePage {
      * @return true if logout link is visible
      */
     public boolean isUserLoggedIn() {
-        try {
-            return driver.findElement(logoutLink).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return waitUtils.isDisplayedWhenReady(logoutLink);
     }
 
     /**
@@ -3,6 +3,8 @@ package main.java.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.Locators;
+import utils.ReadinessContract;
 import utils.WaitUtils;
 
 /**
@@ -14,16 +16,30 @@ public class LoginPage {
     private WaitUtils waitUtils;
 
     // Login Form Locators
-    private By emailInputField = By.xpath("//input[@data-qa='login-email']");
-    private By passwordInputField = By.xpath("//input[@data-qa='login-password']");
-    private By loginButton = By.xpath("//button[@data-qa='login-button']");
-    private By loginErrorMessage = By.xpath("//p[contains(text(), 'Your email or password is incorrect')]");
-    private By loginPageTitle = By.xpath("//h2[contains(text(), 'Login to your account')]");
+    private By emailInputField = Locators.of("LoginPage.emailInputField",
+            By.cssSelector("input[data-qa='login-email']"), By.xpath("//input[@data-qa='login-email']"));
+    private By passwordInputField = Locators.of("LoginPage.passwordInputField",
+            By.cssSelector("input[data-qa='login-password']"), By.xpath("//input[@data-qa='login-password']"));
+    private By loginButton = Locators.of("LoginPage.loginButton",
+            By.cssSelector("button[data-qa='login-button']"), By.xpath("//button[@data-qa='login-button']"));
+    private By loginErrorMessage = Locators.of("LoginPage.loginErrorMessage",
+            By.xpath("//p[contains(text(), 'Your email or password is incorrect')]"));
+    private By loginPageTitle = Locators.of("LoginPage.loginPageTitle",
+            By.cssSelector("div.login-form > h2"), By.xpath("//h2[contains(text(), 'Login to your account')]"));
 
     // Signup Form Locators
-    private By signupNameField = By.xpath("//input[@data-qa='signup-name']");
-    private By signupEmailField = By.xpath("//input[@data-qa='signup-email']");
-    private By signupButton = By.xpath("//button[@data-qa='signup-button']");
+    private By signupNameField = Locators.of("LoginPage.signupNameField",
+            By.cssSelector("input[data-qa='signup-name']"), By.xpath("//input[@data-qa='signup-name']"));
+    private By signupEmailField = Locators.of("LoginPage.signupEmailField",
+            By.cssSelector("input[data-qa='signup-email']"), By.xpath("//input[@data-qa='signup-email']"));
+    private By signupButton = Locators.of("LoginPage.signupButton",
+            By.cssSelector("button[data-qa='signup-button']"), By.xpath("//button[@data-qa='signup-button']"));
+
+    // Readiness: what must hold before the page is usable (see page_load_strategy)
+    private ReadinessContract readiness = ReadinessContract.forPage("LoginPage")
+            .element(loginPageTitle)
+            .element(emailInputField)
+            .build();
 
     public LoginPage(WebDriver driver) {
         this.driver = driver;
@@ -33,14 +49,20 @@ public class LoginPage {
     /**
      * Verify login page is loaded
      *
-     * @return true if login page title is visible
+     * @return true if the page's readiness contract holds
      */
     public boolean isLoginPageLoaded() {
-        try {
-            return driver.findElement(loginPageTitle).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return readiness.isMet(driver);
+    }
+
+    /**
+     * Wait until the page is usable according to its readiness contract
+     *
+     * @return this page
+     */
+    public LoginPage waitUntilReady() {
+        waitUtils.waitForReadiness(readiness);
+        return this;
     }
 
     /**
@@ -91,11 +113,7 @@ public class LoginPage {
      * @return true if error message is displayed
      */
     public boolean isLoginErrorDisplayed() {
-        try {
-            return driver.findElement(loginErrorMessage).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return waitUtils.isDisplayedWhenReady(loginErrorMessage);
     }
 
     /**
@@ -3,8 +3,13 @@ package main.java.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import utils.DomSnapshot;
+import utils.Locators;
+import utils.PagePerformance;
+import utils.ReadinessContract;
 import utils.WaitUtils;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ProductsPage - Page Object for Products Page
@@ -15,14 +20,31 @@ public class ProductsPage {
     private WaitUtils waitUtils;
 
     // Locators
-    private By productsPageTitle = By.xpath("//h2[contains(text(), 'All Products')]");
-    private By searchInput = By.id("search_product");
-    private By searchButton = By.id("submit_search");
-    private By productsList = By.xpath("//div[@class='productinfo text-center']");
-    private By productName = By.xpath(".//p");
-    private By addToCartButton = By.xpath(".//a[contains(text(), 'Add to cart')]");
-    private By continueShoppingButton = By.xpath("//button[contains(text(), 'Continue Shopping')]");
-    private By viewCartButton = By.xpath("//a[contains(text(), 'View Cart')]");
+    private By productsPageTitle = Locators.of("ProductsPage.productsPageTitle",
+            By.xpath("//h2[contains(text(), 'All Products')]"));
+    private By searchInput = Locators.of("ProductsPage.searchInput", By.id("search_product"));
+    private By searchButton = Locators.of("ProductsPage.searchButton", By.id("submit_search"));
+    private By productsList = Locators.of("ProductsPage.productsList",
+            By.cssSelector("div.productinfo.text-center"), By.xpath("//div[@class='productinfo text-center']"));
+    private By continueShoppingButton = Locators.of("ProductsPage.continueShoppingButton",
+            By.cssSelector("#cartModal button.close-modal"),
+            By.xpath("//button[contains(text(), 'Continue Shopping')]"));
+    private By viewCartButton = Locators.of("ProductsPage.viewCartButton",
+            By.cssSelector("#cartModal a[href='/view_cart']"), By.xpath("//a[contains(text(), 'View Cart')]"));
+
+    // Readiness: what must hold before the page is usable (see page_load_strategy)
+    private ReadinessContract readiness = ReadinessContract.forPage("ProductsPage")
+            .element(productsPageTitle)
+            .script("return !window.jQuery || jQuery.active === 0")
+            .build();
+
+    // Product tile snapshot: CSS selectors read in one script call, relative to each tile
+    private static final String PRODUCT_TILE = "div.productinfo.text-center";
+    private static final Map<String, String> TILE_TEXT = Map.of(
+            "name", "p",
+            "price", "h2");
+    private static final Map<String, String> TILE_HANDLES = Map.of(
+            "addToCart", "a.add-to-cart");
 
     public ProductsPage(WebDriver driver) {
         this.driver = driver;
@@ -32,14 +54,20 @@ public class ProductsPage {
     /**
      * Verify products page is loaded
      *
-     * @return true if products page title is visible
+     * @return true if the page's readiness contract holds
      */
     public boolean isProductsPageLoaded() {
-        try {
-            return driver.findElement(productsPageTitle).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return readiness.isMet(driver);
+    }
+
+    /**
+     * Wait until the page is usable according to its readiness contract
+     *
+     * @return this page
+     */
+    public ProductsPage waitUntilReady() {
+        waitUtils.waitForReadiness(readiness);
+        return this;
     }
 
     /**
@@ -60,10 +88,21 @@ public class ProductsPage {
      * @return List of product elements
      */
     public List<WebElement> getAllProducts() {
-        waitUtils.waitForElementToBeVisible(productsPageTitle);
+        waitUntilReady();
         return driver.findElements(productsList);
     }
 
+    /**
+     * Get a snapshot of every product tile (name, price, add-to-cart handle)
+     * Read in a single WebDriver call however large the catalog is
+     *
+     * @return Product tiles in display order
+     */
+    public List<DomSnapshot.Row> getProductTiles() {
+        waitUntilReady();
+        return DomSnapshot.of(driver, PRODUCT_TILE, TILE_TEXT, TILE_HANDLES);
+    }
+
     /**
      * Get product by name
      *
@@ -71,14 +110,8 @@ public class ProductsPage {
      * @return WebElement of the product
      */
     public WebElement getProductByName(String productName) {
-        List<WebElement> products = getAllProducts();
-        for (WebElement product : products) {
-            String name = product.findElement(productName).getText();
-            if (name.equalsIgnoreCase(productName)) {
-                return product;
-            }
-        }
-        return null;
+        DomSnapshot.Row tile = findTile(productName);
+        return tile != null ? tile.getElement() : null;
     }
 
     /**
@@ -87,18 +120,9 @@ public class ProductsPage {
      * @param productName - Name of the product
      */
     public void addProductToCart(String productName) {
-        List<WebElement> products = getAllProducts();
-        for (WebElement product : products) {
-            try {
-                String name = product.findElement(productName).getText();
-                if (name.equalsIgnoreCase(productName)) {
-                    WebElement addBtn = product.findElement(addToCartButton);
-                    addBtn.click();
-                    break;
-                }
-            } catch (Exception e) {
-                continue;
-            }
+        DomSnapshot.Row tile = findTile(productName);
+        if (tile != null && tile.getHandle("addToCart") != null) {
+            tile.getHandle("addToCart").click();
         }
     }
 
@@ -106,13 +130,19 @@ public class ProductsPage {
      * Add first product to cart
      */
     public void addFirstProductToCart() {
-        List<WebElement> products = getAllProducts();
-        if (!products.isEmpty()) {
-            WebElement addBtn = products.get(0).findElement(addToCartButton);
-            addBtn.click();
+        List<DomSnapshot.Row> tiles = getProductTiles();
+        if (!tiles.isEmpty() && tiles.get(0).getHandle("addToCart") != null) {
+            tiles.get(0).getHandle("addToCart").click();
         }
     }
 
+    /**
+     * Find the product tile whose name matches, ignoring case
+     */
+    private DomSnapshot.Row findTile(String productName) {
+        return DomSnapshot.find(getProductTiles(), tile -> tile.get("name").equalsIgnoreCase(productName));
+    }
+
     /**
      * Click continue shopping button
      */
@@ -127,6 +157,8 @@ public class ProductsPage {
     public void clickViewCart() {
         WebElement viewCartBtn = waitUtils.waitForElementToBeClickable(viewCartButton);
         viewCartBtn.click();
+        new CartPage(driver).waitUntilReady();
+        PagePerformance.capture(driver, "CartPage", "ProductsPage.clickViewCart");
     }
 
     /**
@@ -0,0 +1,502 @@
+package stub;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * FakeStoreServer - In-process stand-in for https://fakestoreapi.com
+ * Serves the /products, /carts and /users endpoints of the postman collection
+ * from concurrent in-memory maps, so API tests run offline and measure the
+ * framework instead of the public internet
+ */
+public class FakeStoreServer {
+    private static final String[] CATEGORIES = {"men's clothing", "jewelery", "electronics", "women's clothing"};
+    private static final int SEED_PRODUCTS = 20;
+    private static final int SEED_USERS = 10;
+    private static final int SEED_CARTS = 7;
+
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    private final AtomicInteger handlerThreadCount = new AtomicInteger();
+    private final Resource products = new Resource("product");
+    private final Resource carts = new Resource("cart");
+    private final Resource users = new Resource("user");
+    private final int requestedPort;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param port - Port to listen on; 0 picks a free port
+     */
+    public FakeStoreServer(int port) {
+        this.requestedPort = port;
+        seed();
+        products.sealFixtures();
+        carts.sealFixtures();
+        users.sealFixtures();
+    }
+
+    /**
+     * Start listening on the loopback interface
+     *
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        HttpServer httpServer = HttpServer.create(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), 0);
+        httpServer.createContext("/products", exchange -> handle(exchange, this::routeProducts));
+        httpServer.createContext("/carts", exchange -> handle(exchange, this::routeCarts));
+        httpServer.createContext("/users", exchange -> handle(exchange, this::routeUsers));
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fakestore-stub-" + handlerThreadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        server = httpServer;
+    }
+
+    /**
+     * Stop the server and its handler threads
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        executor = null;
+    }
+
+    /**
+     * Get the port the server is bound to
+     *
+     * @return Port number, or -1 if the server is not running
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Get the base URL to use as api_base_url
+     *
+     * @return e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort();
+    }
+
+    // ------------------------------------------------------------------
+    // Routing
+    // ------------------------------------------------------------------
+
+    private Reply routeProducts(Request request) {
+        List<String> path = request.path;
+        if (path.size() == 1 && path.get(0).equals("categories") && request.isGet()) {
+            Set<String> categories = new LinkedHashSet<>();
+            for (JsonObject product : products.store.values()) {
+                String category = field(product, "category");
+                if (category != null) {
+                    categories.add(category);
+                }
+            }
+            return Reply.ok(gson.toJsonTree(categories));
+        }
+        if (path.size() == 2 && path.get(0).equals("category") && request.isGet()) {
+            String category = path.get(1);
+            return Reply.ok(products.list(request,
+                    product -> category.equals(field(product, "category"))));
+        }
+        return products.route(request);
+    }
+
+    private Reply routeCarts(Request request) {
+        List<String> path = request.path;
+        if (path.size() == 2 && path.get(0).equals("user") && request.isGet()) {
+            Integer userId = parseId(path.get(1));
+            if (userId == null) {
+                return Reply.error(400, "user id should be provided as a number");
+            }
+            return Reply.ok(carts.list(request, cart -> String.valueOf(userId).equals(field(cart, "userId"))));
+        }
+        if (path.isEmpty() && request.isGet()) {
+            String start = request.query.get("startdate");
+            String end = request.query.get("enddate");
+            return Reply.ok(carts.list(request, cart -> {
+                String date = field(cart, "date");
+                return (start == null || (date != null && date.compareTo(start) >= 0))
+                        && (end == null || (date != null && date.compareTo(end) <= 0));
+            }));
+        }
+        return carts.route(request);
+    }
+
+    private Reply routeUsers(Request request) {
+        return users.route(request);
+    }
+
+    private void handle(HttpExchange exchange, Router router) throws IOException {
+        Reply reply;
+        try {
+            reply = router.route(Request.parse(exchange));
+        } catch (JsonParseException | IllegalStateException e) {
+            reply = Reply.error(400, "Invalid request body: " + e.getMessage());
+        } catch (RuntimeException e) {
+            reply = Reply.error(500, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+
+        byte[] body = gson.toJson(reply.body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(reply.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Read a primitive field as a string; posted objects are not validated, so it may be missing
+     */
+    private static String field(JsonObject object, String key) {
+        JsonElement value = object.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Seed data
+    // ------------------------------------------------------------------
+
+    private void seed() {
+        for (int id = 1; id <= SEED_PRODUCTS; id++) {
+            String category = CATEGORIES[Math.min((id - 1) / 5, CATEGORIES.length - 1)];
+            JsonObject rating = new JsonObject();
+            rating.addProperty("rate", 2.0 + (id % 30) / 10.0);
+            rating.addProperty("count", 100 + id * 17);
+
+            JsonObject product = new JsonObject();
+            product.addProperty("id", id);
+            product.addProperty("title", "Fake Store product " + id);
+            product.addProperty("price", 9.99 + id * 5);
+            product.addProperty("description", "Stub " + category + " item " + id);
+            product.addProperty("category", category);
+            product.addProperty("image", "https://fakestoreapi.com/img/stub-" + id + ".jpg");
+            product.add("rating", rating);
+            products.put(id, product);
+        }
+
+        for (int id = 1; id <= SEED_USERS; id++) {
+            JsonObject name = new JsonObject();
+            name.addProperty("firstname", "user" + id);
+            name.addProperty("lastname", "stub");
+
+            JsonObject user = new JsonObject();
+            user.addProperty("id", id);
+            user.addProperty("email", "user" + id + "@fakestore.local");
+            user.addProperty("username", "user" + id);
+            user.addProperty("password", "password" + id);
+            user.add("name", name);
+            user.addProperty("phone", "1-570-236-70" + String.format("%02d", id));
+            users.put(id, user);
+        }
+
+        for (int id = 1; id <= SEED_CARTS; id++) {
+            JsonArray items = new JsonArray();
+            for (int line = 0; line < 1 + id % 3; line++) {
+                JsonObject item = new JsonObject();
+                item.addProperty("productId", 1 + (id * 3 + line * 7) % SEED_PRODUCTS);
+                item.addProperty("quantity", 1 + (id + line) % 4);
+                items.add(item);
+            }
+
+            JsonObject cart = new JsonObject();
+            cart.addProperty("id", id);
+            cart.addProperty("userId", 1 + (id - 1) % SEED_USERS);
+            cart.addProperty("date", String.format("2020-03-%02dT00:00:00.000Z", id));
+            cart.add("products", items);
+            carts.put(id, cart);
+        }
+    }
+
+    /**
+     * Router - Maps a parsed request to a reply
+     */
+    @FunctionalInterface
+    private interface Router {
+        Reply route(Request request);
+    }
+
+    /**
+     * Resource - One collection of JSON objects keyed by id
+     * Stored objects are never mutated after they are put, so handlers can
+     * serialize them while other threads replace entries.
+     * Seeded fixtures behave like on the live API: updates and deletes are
+     * answered but not applied, so tests running in any order (or in parallel)
+     * see the same fixtures. Objects created through the API change for real.
+     */
+    private class Resource {
+        private final String name;
+        private final ConcurrentNavigableMap<Integer, JsonObject> store = new ConcurrentSkipListMap<>();
+        private final AtomicInteger nextId = new AtomicInteger();
+        private volatile int lastFixtureId;
+
+        private Resource(String name) {
+            this.name = name;
+        }
+
+        private void put(int id, JsonObject value) {
+            store.put(id, value);
+            nextId.accumulateAndGet(id, Math::max);
+        }
+
+        /**
+         * Mark everything stored so far as a read-only fixture
+         */
+        private void sealFixtures() {
+            lastFixtureId = nextId.get();
+        }
+
+        private boolean isFixture(int id) {
+            return id >= 1 && id <= lastFixtureId;
+        }
+
+        /**
+         * CRUD on /resource and /resource/{id}
+         */
+        private Reply route(Request request) {
+            List<String> path = request.path;
+            if (path.isEmpty()) {
+                switch (request.method) {
+                    case "GET":
+                        return Reply.ok(list(request, value -> true));
+                    case "POST":
+                        return Reply.ok(create(request.bodyObject()));
+                    default:
+                        return Reply.error(405, request.method + " not allowed on /" + name + "s");
+                }
+            }
+            if (path.size() != 1) {
+                return Reply.error(404, "Not found");
+            }
+
+            Integer id = parseId(path.get(0));
+            if (id == null) {
+                return Reply.error(400, name + " id should be provided as a number");
+            }
+            switch (request.method) {
+                case "GET":
+                    JsonObject value = store.get(id);
+                    return value != null ? Reply.ok(value) : Reply.error(404, name + " " + id + " not found");
+                case "PUT":
+                    return Reply.ok(replace(id, request.bodyObject()));
+                case "PATCH":
+                    return Reply.ok(merge(id, request.bodyObject()));
+                case "DELETE":
+                    JsonObject removed = isFixture(id) ? store.get(id) : store.remove(id);
+                    return removed != null ? Reply.ok(removed) : Reply.error(404, name + " " + id + " not found");
+                default:
+                    return Reply.error(405, request.method + " not allowed on /" + name + "s/{id}");
+            }
+        }
+
+        /**
+         * List values in id order, honouring the limit and sort query parameters
+         */
+        private JsonArray list(Request request, Predicate<JsonObject> filter) {
+            boolean descending = "desc".equalsIgnoreCase(request.query.get("sort"));
+            Integer limit = request.query.containsKey("limit") ? parseId(request.query.get("limit")) : null;
+
+            JsonArray result = new JsonArray();
+            for (JsonObject value : (descending ? store.descendingMap() : store).values()) {
+                if (limit != null && result.size() >= limit) {
+                    break;
+                }
+                if (filter.test(value)) {
+                    result.add(value);
+                }
+            }
+            return result;
+        }
+
+        private JsonObject create(JsonObject body) {
+            int id = nextId.incrementAndGet();
+            JsonObject value = withId(body, id);
+            store.put(id, value);
+            return value;
+        }
+
+        /**
+         * PUT replaces the object, creating it if the id is unknown
+         * (the live API also accepts updates to ids it has never seen)
+         */
+        private JsonObject replace(int id, JsonObject body) {
+            JsonObject value = withId(body, id);
+            if (!isFixture(id)) {
+                put(id, value);
+            }
+            return value;
+        }
+
+        private JsonObject merge(int id, JsonObject body) {
+            if (isFixture(id)) {
+                return merged(store.get(id), body, id);
+            }
+            JsonObject value = store.compute(id, (key, existing) -> merged(existing, body, id));
+            nextId.accumulateAndGet(id, Math::max);
+            return value;
+        }
+
+        private JsonObject merged(JsonObject existing, JsonObject body, int id) {
+            JsonObject value = existing != null ? existing.deepCopy() : new JsonObject();
+            for (Map.Entry<String, JsonElement> entry : body.entrySet()) {
+                value.add(entry.getKey(), entry.getValue());
+            }
+            value.addProperty("id", id);
+            return value;
+        }
+
+        private JsonObject withId(JsonObject body, int id) {
+            JsonObject value = new JsonObject();
+            value.addProperty("id", id);
+            for (Map.Entry<String, JsonElement> entry : body.entrySet()) {
+                if (!entry.getKey().equals("id")) {
+                    value.add(entry.getKey(), entry.getValue());
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Request - Method, path segments below the resource, query and body
+     */
+    private static class Request {
+        private final String method;
+        private final List<String> path;
+        private final Map<String, String> query;
+        private final String body;
+
+        private Request(String method, List<String> path, Map<String, String> query, String body) {
+            this.method = method;
+            this.path = path;
+            this.query = query;
+            this.body = body;
+        }
+
+        private static Request parse(HttpExchange exchange) throws IOException {
+            String contextPath = exchange.getHttpContext().getPath();
+            String rawPath = exchange.getRequestURI().getRawPath().substring(contextPath.length());
+
+            List<String> segments = new ArrayList<>();
+            for (String segment : rawPath.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(decode(segment));
+                }
+            }
+
+            Map<String, String> query = new HashMap<>();
+            String rawQuery = exchange.getRequestURI().getRawQuery();
+            if (rawQuery != null) {
+                for (String pair : rawQuery.split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (eq > 0) {
+                        query.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+                    }
+                }
+            }
+
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            return new Request(exchange.getRequestMethod().toUpperCase(), Collections.unmodifiableList(segments),
+                    query, body);
+        }
+
+        private boolean isGet() {
+            return method.equals("GET");
+        }
+
+        /**
+         * Parse the body as a JSON object; an empty body is an empty object
+         */
+        private JsonObject bodyObject() {
+            if (body.trim().isEmpty()) {
+                return new JsonObject();
+            }
+            return JsonParser.parseString(body).getAsJsonObject();
+        }
+
+        private static String decode(String value) {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reply - Status code and JSON body
+     */
+    private static class Reply {
+        private final int status;
+        private final JsonElement body;
+
+        private Reply(int status, JsonElement body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        private static Reply ok(JsonElement body) {
+            return new Reply(200, body);
+        }
+
+        private static Reply error(int status, String message) {
+            JsonObject body = new JsonObject();
+            body.addProperty("status", "error");
+            body.addProperty("message", message);
+            return new Reply(status, body);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package utils;
+
+import config.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+
+/**
+ * ApiClient - Shared, thread-safe HTTP client configuration for API calls
+ * All requests go through one pooled Apache HTTP connection manager, so
+ * connections (and their TCP/TLS handshakes) are reused across tests and threads
+ */
+public class ApiClient {
+    private static volatile RequestSpecification requestSpec;
+    private static volatile PoolingClientConnectionManager connectionManager;
+
+    /**
+     * Get the request spec shared by all API calls
+     * The spec is only read by given().spec(...), which copies it, so sharing it is safe
+     *
+     * @return RequestSpecification with base URI and pooled HTTP client applied
+     */
+    public static RequestSpecification getRequestSpec() {
+        if (requestSpec == null) {
+            synchronized (ApiClient.class) {
+                if (requestSpec == null) {
+                    requestSpec = buildRequestSpec();
+                }
+            }
+        }
+        return requestSpec;
+    }
+
+    /**
+     * Start a new request based on the shared spec
+     *
+     * @return RequestSpecification to continue building the request
+     */
+    public static RequestSpecification given() {
+        return RestAssured.given().spec(getRequestSpec());
+    }
+
+    /**
+     * Drop the shared spec so the next request picks up changed configuration
+     * (e.g. a new api_base_url) and a fresh connection pool
+     */
+    public static synchronized void reset() {
+        requestSpec = null;
+        PoolingClientConnectionManager manager = connectionManager;
+        connectionManager = null;
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    private static RequestSpecification buildRequestSpec() {
+        int connectTimeout = ConfigReader.getApiConnectTimeout();
+        int socketTimeout = ConfigReader.getApiTimeout();
+
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(ApiClient::createHttpClient)
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeout)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, socketTimeout)
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) socketTimeout);
+
+        return new RequestSpecBuilder()
+                .setBaseUri(ConfigReader.getApiBaseUrl())
+                .setConfig(RestAssuredConfig.config().httpClient(httpClientConfig))
+                .build();
+    }
+
+    /**
+     * Create the single HTTP client behind the shared spec
+     * Honours the server's Keep-Alive header and falls back to api_keep_alive_ms
+     */
+    private static DefaultHttpClient createHttpClient() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(ConfigReader.getApiMaxConnections());
+        manager.setDefaultMaxPerRoute(ConfigReader.getApiMaxConnectionsPerRoute());
+        connectionManager = manager;
+
+        long keepAliveMillis = ConfigReader.getApiKeepAlive();
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMillis;
+        });
+        return client;
+    }
+}
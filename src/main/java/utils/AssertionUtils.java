@@ -1,5 +1,7 @@
 package main.java.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import io.restassured.response.Response;
 
@@ -172,4 +174,45 @@ public class AssertionUtils {
     public static void assertLessThan(long actual, long threshold, String message) {
         Assert.assertTrue(actual < threshold, message + " (Expected < " + threshold + ", Got: " + actual + ")");
     }
+
+    /**
+     * Assert that a latency percentile is within budget
+     *
+     * @param histogram - Recorded latencies
+     * @param percentile - Percentile between 0 and 100 (100 is the maximum)
+     * @param budgetMillis - Highest acceptable latency in milliseconds
+     * @param message - Assertion message
+     */
+    public static void assertPercentileBelow(LatencyHistogram histogram, double percentile, double budgetMillis,
+                                             String message) {
+        double actual = histogram.getPercentileMillis(percentile);
+        Assert.assertTrue(actual <= budgetMillis,
+                message + String.format(" (p%s budget %.1f ms, Got: %.1f ms)", percentile, budgetMillis, actual));
+    }
+
+    /**
+     * Assert p50/p95/p99/max latency budgets
+     * All budgets are checked and every breach is reported in one failure
+     *
+     * @param histogram - Recorded latencies
+     * @param p50Millis - Median budget in milliseconds
+     * @param p95Millis - 95th percentile budget in milliseconds
+     * @param p99Millis - 99th percentile budget in milliseconds
+     * @param maxMillis - Maximum latency budget in milliseconds
+     * @param message - Assertion message
+     */
+    public static void assertLatencyBudget(LatencyHistogram histogram, double p50Millis, double p95Millis,
+                                           double p99Millis, double maxMillis, String message) {
+        Assert.assertTrue(histogram.getTotalCount() > 0, message + " (no samples recorded)");
+        double[][] budgets = {{50, p50Millis}, {95, p95Millis}, {99, p99Millis}, {100, maxMillis}};
+        List<String> breaches = new ArrayList<>();
+        for (double[] budget : budgets) {
+            double actual = histogram.getPercentileMillis(budget[0]);
+            if (actual > budget[1]) {
+                breaches.add(String.format("%s %.1f ms > %.1f ms",
+                        budget[0] == 100 ? "max" : "p" + (int) budget[0], actual, budget[1]));
+            }
+        }
+        Assert.assertTrue(breaches.isEmpty(), message + " (" + String.join(", ", breaches) + "; " + histogram + ")");
+    }
 }
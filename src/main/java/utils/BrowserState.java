@@ -0,0 +1,209 @@
+package utils;
+
+import config.ConfigReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * BrowserState - Named application state that tests start from
+ * A state is declared once as the UI steps that reach it. The first test that
+ * needs it replays the steps and captures the browser's cookies and storage;
+ * later tests get the snapshot injected and open the start page directly, so
+ * a five-page navigation prefix costs a single page load.
+ *
+ * The server-side state (e.g. the cart) belongs to the captured session, so
+ * every test restored from a state shares it. Tests that change it should
+ * build their own state or replay the steps.
+ *
+ * <pre>
+ * public static final BrowserState CHECKOUT_WITH_ONE_ITEM = BrowserState.named("checkout-with-one-item")
+ *         .loggedIn()
+ *         .step(driver -&gt; ...)
+ *         .startAt("checkout")
+ *         .build();
+ * </pre>
+ */
+public final class BrowserState {
+    private final String name;
+    private final BrowserState parent;
+    private final boolean loggedIn;
+    private final List<Consumer<WebDriver>> steps;
+    private final String startPath;
+    private volatile SessionSnapshot snapshot;
+    private final AtomicInteger builds = new AtomicInteger();
+    private final AtomicInteger restores = new AtomicInteger();
+
+    private BrowserState(Builder builder) {
+        this.name = builder.name;
+        this.parent = builder.parent;
+        this.loggedIn = builder.loggedIn;
+        this.steps = Collections.unmodifiableList(new ArrayList<>(builder.steps));
+        this.startPath = builder.startPath;
+    }
+
+    /**
+     * Start declaring a state
+     *
+     * @param name - Name shown in the report, e.g. "checkout-with-one-item"
+     * @return Builder
+     */
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Put the driver into this state and open its start page
+     * Builds the state first if it has no valid snapshot. With
+     * session_seeding_enabled=false the steps are replayed every time.
+     *
+     * @param driver - New or freshly reset WebDriver session
+     * @return true if the state was built by replaying its steps, false if restored
+     */
+    public boolean restore(WebDriver driver) {
+        SessionSnapshot current = snapshot;
+        if (current != null && !current.isExpired()) {
+            restoreFrom(current, driver);
+            return false;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !current.isExpired()) {
+                restoreFrom(current, driver);
+                return false;
+            }
+            build(driver);
+            if (ConfigReader.isSessionSeedingEnabled()) {
+                snapshot = SessionSnapshot.capture(driver, name, ConfigReader.getBaseUrl(),
+                        TimeUnit.MINUTES.toMillis(ConfigReader.getSessionTtl()));
+            }
+        }
+        openStartPage(driver);
+        return true;
+    }
+
+    /**
+     * Drop the snapshot so the next restore replays the steps
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Path relative to base_url that tests in this state start on
+     */
+    public String getStartPath() {
+        return startPath;
+    }
+
+    /**
+     * @return Number of times the steps were replayed
+     */
+    public int getBuildCount() {
+        return builds.get();
+    }
+
+    /**
+     * @return Number of times the state was restored from its snapshot
+     */
+    public int getRestoreCount() {
+        return restores.get();
+    }
+
+    @Override
+    public String toString() {
+        return "BrowserState[" + name + ", built " + builds.get() + "x, restored " + restores.get() + "x]";
+    }
+
+    private void restoreFrom(SessionSnapshot current, WebDriver driver) {
+        restores.incrementAndGet();
+        current.applyTo(driver, URI.create(ConfigReader.getBaseUrl())
+                .resolve(ConfigReader.getSessionSeedPath()).toString());
+        openStartPage(driver);
+    }
+
+    /**
+     * Replay the parent state, login and steps in a session of its own
+     */
+    private void build(WebDriver driver) {
+        builds.incrementAndGet();
+        if (parent != null) {
+            parent.build(driver);
+        } else if (loggedIn) {
+            // Not the shared user session: this state's cart must not leak into other tests
+            SessionSeeder.seedUncached(driver, ConfigReader.getValidEmail(), ConfigReader.getValidPassword());
+        }
+        for (Consumer<WebDriver> step : steps) {
+            step.accept(driver);
+        }
+    }
+
+    private void openStartPage(WebDriver driver) {
+        String startUrl = URI.create(ConfigReader.getBaseUrl()).resolve(startPath).toString();
+        if (!startUrl.equals(driver.getCurrentUrl())) {
+            driver.navigate().to(startUrl);
+        }
+    }
+
+    /**
+     * Builder - Declares the steps that reach a state
+     */
+    public static final class Builder {
+        private final String name;
+        private BrowserState parent;
+        private boolean loggedIn;
+        private final List<Consumer<WebDriver>> steps = new ArrayList<>();
+        private String startPath = "";
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Start from another state's steps (and its login)
+         *
+         * @param state - State this one extends
+         */
+        public Builder from(BrowserState state) {
+            this.parent = state;
+            return this;
+        }
+
+        /**
+         * Log in as the configured valid user before the steps run
+         */
+        public Builder loggedIn() {
+            this.loggedIn = true;
+            return this;
+        }
+
+        /**
+         * @param step - UI step, run in declaration order when the state is built
+         */
+        public Builder step(Consumer<WebDriver> step) {
+            steps.add(step);
+            return this;
+        }
+
+        /**
+         * @param path - Page the tests start on, relative to base_url
+         */
+        public Builder startAt(String path) {
+            this.startPath = path;
+            return this;
+        }
+
+        public BrowserState build() {
+            return new BrowserState(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * DomSnapshot - Reads a list of rows (cart lines, catalog tiles) in one executeScript call
+ * Looping over WebElements costs a WebDriver round-trip per getText() and
+ * findElement(); a snapshot returns every row's text fields and element handles
+ * at once, so lookups run in memory and cost the same however long the list is.
+ *
+ * A snapshot is a point-in-time copy: take a new one after the page changes.
+ */
+public final class DomSnapshot {
+    private static final String SNAPSHOT_SCRIPT =
+            "var rows = document.querySelectorAll(arguments[0]), texts = arguments[1], handles = arguments[2];"
+            + "function text(e) { return e ? (e.innerText || e.textContent || '').trim() : null; }"
+            + "var result = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = rows[i], entry = {element: row, text: text(row), fields: {}, handles: {}};"
+            + "  for (var k in texts) { entry.fields[k] = text(row.querySelector(texts[k])); }"
+            + "  for (var h in handles) { entry.handles[h] = row.querySelector(handles[h]); }"
+            + "  result.push(entry);"
+            + "}"
+            + "return result;";
+
+    private DomSnapshot() {
+    }
+
+    /**
+     * Snapshot every row matching a CSS selector
+     *
+     * @param driver - WebDriver on the page
+     * @param rowSelector - CSS selector of the rows, e.g. "tr.cart_item"
+     * @param textFields - Field name to CSS selector (relative to the row) whose trimmed text is read
+     * @param handleFields - Field name to CSS selector (relative to the row) of elements to act on
+     * @return Rows in document order
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Row> of(WebDriver driver, String rowSelector, Map<String, String> textFields,
+                               Map<String, String> handleFields) {
+        Object raw = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, rowSelector,
+                textFields, handleFields);
+        List<Row> rows = new ArrayList<>();
+        if (raw instanceof List) {
+            for (Object entry : (List<Object>) raw) {
+                Map<String, Object> values = (Map<String, Object>) entry;
+                rows.add(new Row((WebElement) values.get("element"), (String) values.get("text"),
+                        (Map<String, Object>) values.get("fields"), (Map<String, Object>) values.get("handles")));
+            }
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Find the first row matching a condition
+     *
+     * @param rows - Snapshot rows
+     * @param condition - Condition evaluated in memory
+     * @return Matching row, or null
+     */
+    public static Row find(List<Row> rows, Predicate<Row> condition) {
+        for (Row row : rows) {
+            if (condition.test(row)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Row - Text and element handles of one list entry
+     */
+    public static final class Row {
+        private final WebElement element;
+        private final String text;
+        private final Map<String, String> fields;
+        private final Map<String, WebElement> handles;
+
+        private Row(WebElement element, String text, Map<String, Object> fields, Map<String, Object> handles) {
+            this.element = element;
+            this.text = text != null ? text : "";
+            Map<String, String> fieldValues = new LinkedHashMap<>();
+            if (fields != null) {
+                for (Map.Entry<String, Object> field : fields.entrySet()) {
+                    fieldValues.put(field.getKey(), field.getValue() != null ? field.getValue().toString() : null);
+                }
+            }
+            Map<String, WebElement> handleValues = new LinkedHashMap<>();
+            if (handles != null) {
+                for (Map.Entry<String, Object> handle : handles.entrySet()) {
+                    if (handle.getValue() instanceof WebElement) {
+                        handleValues.put(handle.getKey(), (WebElement) handle.getValue());
+                    }
+                }
+            }
+            this.fields = Collections.unmodifiableMap(fieldValues);
+            this.handles = Collections.unmodifiableMap(handleValues);
+        }
+
+        /**
+         * @return The row element itself
+         */
+        public WebElement getElement() {
+            return element;
+        }
+
+        /**
+         * @return Trimmed visible text of the whole row, like WebElement.getText()
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @param field - Text field name
+         * @return Trimmed text, or empty if the row has no such element
+         */
+        public String get(String field) {
+            String value = fields.get(field);
+            return value != null ? value : "";
+        }
+
+        /**
+         * @param handle - Handle field name
+         * @return Element to act on, or null if the row has no such element
+         */
+        public WebElement getHandle(String handle) {
+            return handles.get(handle);
+        }
+
+        @Override
+        public String toString() {
+            return fields.isEmpty() ? text : fields.toString();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package utils;
+
+import config.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * DriverBinaryResolver - Resolves the browser driver binary once per process
+ * Persists the resolved binary in a manifest that later JVMs reuse
+ */
+public class DriverBinaryResolver {
+    private static final String CHROME_DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final String KEY_BROWSER = "browser";
+    private static final String KEY_DRIVER_PATH = "driverPath";
+    private static final String KEY_DRIVER_VERSION = "driverVersion";
+    private static final String KEY_RESOLVED_AT = "resolvedAt";
+
+    private static volatile String chromeDriverPath;
+
+    /**
+     * Make sure the ChromeDriver binary is resolved and registered
+     * Only the first call in a process does any work
+     *
+     * @return Absolute path to the ChromeDriver binary
+     */
+    public static String resolveChromeDriver() {
+        String path = chromeDriverPath;
+        if (path == null) {
+            synchronized (DriverBinaryResolver.class) {
+                path = chromeDriverPath;
+                if (path == null) {
+                    path = resolveFromManifestOrNetwork("chrome");
+                    System.setProperty(CHROME_DRIVER_PROPERTY, path);
+                    chromeDriverPath = path;
+                }
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Reuse a manifest written by this or an earlier JVM, resolving through
+     * WebDriverManager only when no usable manifest exists
+     * The manifest lock keeps parallel forks from resolving at the same time
+     */
+    private static String resolveFromManifestOrNetwork(String browser) {
+        Path manifest = getManifestPath();
+
+        String cached = readManifest(manifest, browser);
+        if (cached != null) {
+            System.out.println("Using cached " + browser + " driver from manifest: " + cached);
+            return cached;
+        }
+
+        if (ConfigReader.isDriverOffline()) {
+            throw new IllegalStateException("Offline driver mode is enabled but no usable " + browser
+                    + " driver is recorded in " + manifest.toAbsolutePath()
+                    + ". Run once with driver_offline=false to populate the cache.");
+        }
+
+        try {
+            Files.createDirectories(manifest.toAbsolutePath().getParent());
+            Path lockFile = Paths.get(manifest.toString() + ".lock");
+            try (FileChannel channel = FileChannel.open(lockFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+
+                // Another fork may have finished resolving while we waited for the lock
+                cached = readManifest(manifest, browser);
+                if (cached != null) {
+                    return cached;
+                }
+
+                WebDriverManager manager = WebDriverManager.chromedriver();
+                manager.setup();
+                String driverPath = new File(manager.getDownloadedDriverPath()).getAbsolutePath();
+                writeManifest(manifest, browser, driverPath, manager.getDownloadedDriverVersion());
+                System.out.println("Resolved " + browser + " driver " + driverPath);
+                return driverPath;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to resolve " + browser + " driver: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the manifest entry for a browser
+     *
+     * @return Driver path if the entry is present, fresh and points to an executable
+     */
+    private static String readManifest(Path manifest, String browser) {
+        if (!Files.isRegularFile(manifest)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(manifest)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Ignoring unreadable driver manifest: " + e.getMessage());
+            return null;
+        }
+
+        if (!browser.equals(properties.getProperty(KEY_BROWSER))) {
+            return null;
+        }
+
+        String driverPath = properties.getProperty(KEY_DRIVER_PATH);
+        if (driverPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+            return null;
+        }
+
+        // Browsers auto-update, so an old entry may no longer match the installed browser.
+        // Offline runs accept whatever is cached.
+        if (!ConfigReader.isDriverOffline()) {
+            try {
+                Instant resolvedAt = Instant.parse(properties.getProperty(KEY_RESOLVED_AT));
+                Duration ttl = Duration.ofHours(ConfigReader.getDriverManifestTtl());
+                if (resolvedAt.plus(ttl).isBefore(Instant.now())) {
+                    return null;
+                }
+            } catch (Exception e) {
+                return null;
+            }
+        }
+        return driverPath;
+    }
+
+    /**
+     * Write the manifest atomically so readers never see a partial file
+     */
+    private static void writeManifest(Path manifest, String browser, String driverPath, String driverVersion)
+            throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_BROWSER, browser);
+        properties.setProperty(KEY_DRIVER_PATH, driverPath);
+        properties.setProperty(KEY_DRIVER_VERSION, driverVersion != null ? driverVersion : "");
+        properties.setProperty(KEY_RESOLVED_AT, Instant.now().toString());
+
+        Path temp = Files.createTempFile(manifest.toAbsolutePath().getParent(), "driver-manifest", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "Resolved WebDriver binaries");
+        }
+        Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Get manifest location, defaulting to the WebDriverManager cache directory
+     */
+    private static Path getManifestPath() {
+        String configured = ConfigReader.getDriverManifestPath();
+        if (configured != null && !configured.trim().isEmpty()) {
+            return Paths.get(configured.trim());
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "selenium", "driver-manifest.properties");
+    }
+}
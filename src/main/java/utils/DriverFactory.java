@@ -1,10 +1,10 @@
 package utils;
 
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import config.ConfigReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
 
 /**
  * DriverFactory - Manages WebDriver instance creation and management
@@ -12,17 +12,31 @@ import io.github.bonigarcia.wdm.WebDriverManager;
  */
 public class DriverFactory {
     private static ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static volatile WebDriverPool driverPool;
 
     /**
      * Initialize WebDriver based on browser configuration
+     * Leases a warm session from the pool when pooling is enabled
      *
      * @return WebDriver instance
      */
     public static WebDriver initializeDriver() {
+        WebDriver webDriver = ConfigReader.isDriverPoolEnabled() ? getPool().lease() : createDriver();
+        driver.set(webDriver);
+        return webDriver;
+    }
+
+    /**
+     * Create a new browser session based on browser configuration
+     *
+     * @return WebDriver instance
+     */
+    private static WebDriver createDriver() {
         String browserType = ConfigReader.getBrowser().toLowerCase();
+        WebDriver webDriver;
 
         if (browserType.equals("chrome")) {
-            WebDriverManager.chromedriver().setup();
+            DriverBinaryResolver.resolveChromeDriver();
             ChromeOptions options = new ChromeOptions();
 
             // Add headless mode if configured
@@ -35,19 +49,67 @@ public class DriverFactory {
             options.addArguments("--no-sandbox");
             options.addArguments("--disable-dev-shm-usage");
             options.addArguments("--window-size=" + ConfigReader.getProperty("window_size"));
+            options.setPageLoadStrategy(getPageLoadStrategy());
+            RequestBlocker.configure(options);
 
-            WebDriver chromeDriver = new ChromeDriver(options);
-            driver.set(chromeDriver);
+            webDriver = new ChromeDriver(options);
+            RequestBlocker.apply(webDriver);
+            PagePerformance.apply(webDriver);
         } else {
             throw new IllegalArgumentException("Browser '" + browserType + "' is not supported. Use 'chrome'.");
         }
 
-        // Set timeouts
-        getDriver().manage().timeouts()
-                .implicitlyWait(java.time.Duration.ofSeconds(ConfigReader.getImplicitWait()))
+        // Set timeouts; no implicit wait, WaitUtils polls explicitly
+        webDriver.manage().timeouts()
+                .implicitlyWait(java.time.Duration.ZERO)
                 .pageLoadTimeout(java.time.Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
 
-        return getDriver();
+        return webDriver;
+    }
+
+    /**
+     * Map page_load_strategy to Selenium's PageLoadStrategy
+     * With eager or none, page objects wait for their own ReadinessContract
+     *
+     * @return PageLoadStrategy
+     */
+    private static PageLoadStrategy getPageLoadStrategy() {
+        String strategy = ConfigReader.getPageLoadStrategy().trim().toLowerCase();
+        switch (strategy) {
+            case "normal":
+                return PageLoadStrategy.NORMAL;
+            case "eager":
+                return PageLoadStrategy.EAGER;
+            case "none":
+                return PageLoadStrategy.NONE;
+            default:
+                throw new IllegalArgumentException("Unsupported page_load_strategy '" + strategy
+                        + "'. Use normal, eager or none.");
+        }
+    }
+
+    /**
+     * Get the shared session pool, creating it on first use
+     *
+     * @return WebDriverPool instance
+     */
+    private static WebDriverPool getPool() {
+        if (driverPool == null) {
+            synchronized (DriverFactory.class) {
+                if (driverPool == null) {
+                    WebDriverPool pool = new WebDriverPool(DriverFactory::createDriver,
+                            ConfigReader.getDriverPoolSize(),
+                            ConfigReader.getDriverPoolMaxUses(),
+                            ConfigReader.getDriverPoolLeaseTimeout() * 1000L);
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                        System.out.println(pool.getStats());
+                        pool.close();
+                    }, "webdriver-pool-shutdown"));
+                    driverPool = pool;
+                }
+            }
+        }
+        return driverPool;
     }
 
     /**
@@ -59,14 +121,54 @@ public class DriverFactory {
         return driver.get();
     }
 
+    /**
+     * Release WebDriver at the end of a test
+     * Pooled sessions are reset and returned to the pool, others are quit
+     */
+    public static void releaseDriver() {
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            // Unbind first: a failing release must not leave the thread holding the session
+            driver.remove();
+            try {
+                RequestBlocker.collect(webDriver);
+            } finally {
+                if (driverPool != null && ConfigReader.isDriverPoolEnabled()) {
+                    driverPool.release(webDriver);
+                } else {
+                    webDriver.quit();
+                }
+            }
+        }
+    }
+
     /**
      * Quit WebDriver and remove from ThreadLocal
+     * A pooled session is evicted rather than returned
      */
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
-            webDriver.quit();
             driver.remove();
+            try {
+                RequestBlocker.collect(webDriver);
+            } finally {
+                if (driverPool != null && ConfigReader.isDriverPoolEnabled()) {
+                    driverPool.invalidate(webDriver);
+                } else {
+                    webDriver.quit();
+                }
+            }
         }
     }
+
+    /**
+     * Get WebDriver pool metrics
+     *
+     * @return Pool statistics, or null if pooling has not been used
+     */
+    public static WebDriverPool.Stats getPoolStats() {
+        WebDriverPool pool = driverPool;
+        return pool != null ? pool.getStats() : null;
+    }
 }
@@ -0,0 +1,197 @@
+package utils;
+
+import config.ConfigReader;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ExecutorFactory - Creates the executors that fan out API calls and load iterations
+ *
+ * thread_mode=platform: a fixed pool of daemon platform threads
+ * thread_mode=virtual: one virtual thread per task (Java 21+), with at most
+ * virtual_thread_max_concurrency tasks running at once. Tasks over the cap park
+ * their (cheap) virtual thread instead of queueing, so 10k blocking HTTP calls
+ * need a few carrier threads rather than 10k OS threads.
+ *
+ * The project still compiles for Java 11, so virtual threads are created
+ * reflectively; on an older runtime virtual mode falls back to platform threads.
+ */
+public class ExecutorFactory {
+    private static volatile Boolean virtualThreadsSupported;
+
+    /**
+     * ThreadMode - Kind of threads used for API fan-out
+     */
+    public enum ThreadMode {
+        PLATFORM, VIRTUAL;
+
+        public static ThreadMode fromString(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported thread_mode '" + value
+                        + "'. Use platform or virtual.");
+            }
+        }
+    }
+
+    /**
+     * Create an executor for the configured thread mode
+     *
+     * @param name - Thread name prefix, e.g. "load-worker"
+     * @param platformThreads - Pool size in platform mode
+     * @return ExecutorService; callers must shut it down
+     */
+    public static ExecutorService newExecutor(String name, int platformThreads) {
+        if (isVirtualMode()) {
+            return new CappedExecutor(name, ConfigReader.getVirtualThreadMaxConcurrency());
+        }
+        return newPlatformExecutor(name, platformThreads);
+    }
+
+    /**
+     * Get how many tasks can usefully run at once in the configured mode
+     *
+     * @param platformThreads - Pool size in platform mode
+     * @return virtual_thread_max_concurrency in virtual mode, otherwise platformThreads
+     */
+    public static int getConcurrency(int platformThreads) {
+        return isVirtualMode() ? ConfigReader.getVirtualThreadMaxConcurrency() : platformThreads;
+    }
+
+    /**
+     * Check if virtual threads are configured and available on this runtime
+     */
+    public static boolean isVirtualMode() {
+        return ThreadMode.fromString(ConfigReader.getThreadMode()) == ThreadMode.VIRTUAL
+                && isVirtualThreadSupported();
+    }
+
+    private static ExecutorService newPlatformExecutor(String name, int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Check once whether this runtime can create virtual threads
+     */
+    private static boolean isVirtualThreadSupported() {
+        Boolean supported = virtualThreadsSupported;
+        if (supported == null) {
+            synchronized (ExecutorFactory.class) {
+                supported = virtualThreadsSupported;
+                if (supported == null) {
+                    supported = createVirtualThreadFactory("virtual-") != null;
+                    if (!supported) {
+                        System.err.println("thread_mode=virtual needs Java 21+, running on "
+                                + System.getProperty("java.version") + "; using platform threads");
+                    }
+                    virtualThreadsSupported = supported;
+                }
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * Build a named virtual thread factory via Thread.ofVirtual().name(prefix, 0).factory()
+     *
+     * @return ThreadFactory, or null if the runtime has no virtual threads
+     */
+    private static ThreadFactory createVirtualThreadFactory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * CappedExecutor - Thread-per-task virtual executor with a concurrency cap
+     * Every task gets its own virtual thread, which waits for a permit before running
+     */
+    private static class CappedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        private CappedExecutor(String name, int maxConcurrency) {
+            this.permits = new Semaphore(maxConcurrency);
+            this.delegate = newThreadPerTaskExecutor(createVirtualThreadFactory(name + "-"));
+        }
+
+        private static ExecutorService newThreadPerTaskExecutor(ThreadFactory factory) {
+            try {
+                Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                return (ExecutorService) method.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Virtual thread executor unavailable", e);
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // Never started: cancel it so callers waiting on its Future are released
+                    if (task instanceof Future) {
+                        ((Future<?>) task).cancel(false);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
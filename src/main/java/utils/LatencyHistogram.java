@@ -0,0 +1,175 @@
+package utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram - Fixed-size, log-linear latency histogram (HdrHistogram layout)
+ * Values are recorded in nanoseconds into power-of-two buckets that are each split
+ * into 128 linear sub-buckets, so any value is kept within 0.8% of its true size
+ * with constant memory. Recording is lock-free and safe from many threads.
+ */
+public class LatencyHistogram {
+    // Percentiles listed in reports and distribution tables
+    public static final double[] REPORTED_PERCENTILES = {50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 100.0};
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    // Covers every non-negative long value
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record one latency
+     *
+     * @param nanos - Latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        minNanos.accumulateAndGet(value, Math::min);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add all values recorded in another histogram
+     *
+     * @param other - Histogram to merge into this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        totalNanos.add(other.totalNanos.sum());
+        if (other.getTotalCount() > 0) {
+            minNanos.accumulateAndGet(other.minNanos.get(), Math::min);
+            maxNanos.accumulateAndGet(other.maxNanos.get(), Math::max);
+        }
+    }
+
+    /**
+     * Get the value at a percentile
+     * Reports the top of the sub-bucket holding it, so the result never understates latency
+     *
+     * @param percentile - Percentile between 0 and 100
+     * @return Latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long max = maxNanos.get();
+        if (percentile >= 100.0) {
+            return max;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.max(0.0, percentile) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Get the value at a percentile in milliseconds
+     *
+     * @param percentile - Percentile between 0 and 100
+     * @return Latency in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return toMillis(getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Get the percentile distribution listed in reports
+     *
+     * @return Percentile to latency in milliseconds, in REPORTED_PERCENTILES order
+     */
+    public Map<Double, Double> getPercentileDistribution() {
+        Map<Double, Double> distribution = new LinkedHashMap<>();
+        for (double percentile : REPORTED_PERCENTILES) {
+            distribution.put(percentile, getPercentileMillis(percentile));
+        }
+        return distribution;
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getMinNanos() {
+        return getTotalCount() == 0 ? 0 : minNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanMillis() {
+        long total = getTotalCount();
+        return total == 0 ? 0.0 : toMillis(totalNanos.sum()) / total;
+    }
+
+    public double getMaxMillis() {
+        return toMillis(getMaxNanos());
+    }
+
+    /**
+     * One-line summary, e.g. "n=100 p50=12.3ms p95=20.1ms p99=31.0ms max=40.2ms"
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                getTotalCount(), getMeanMillis(), getPercentileMillis(50), getPercentileMillis(95),
+                getPercentileMillis(99), getMaxMillis());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Values below SUB_BUCKET_COUNT map 1:1; above that, each power of two
+     * gets SUB_BUCKET_HALF linear slots
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long subBucket = offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        long next = (subBucket + 1) << shift;
+        // The last slot tops out at Long.MAX_VALUE
+        return next > 0 ? next - 1 : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,237 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LatencySampler - Measures the latency distribution of a repeatable action
+ * Runs warmup iterations, then a fixed number of measured samples on one or more
+ * threads and records them into a LatencyHistogram.
+ *
+ * With a target rate, each sample has an intended start time on a fixed schedule
+ * and its latency is measured from that time, not from when a busy client got
+ * round to sending it. Stalls therefore show up in the percentiles instead of
+ * being hidden (coordinated omission). Without a rate the samples run back to back.
+ *
+ * <pre>
+ * LatencySampler.Result result = LatencySampler.measure("GET /products", action)
+ *         .warmup(5).samples(100).concurrency(4).targetRate(20)
+ *         .run();
+ * </pre>
+ */
+public class LatencySampler {
+    private final String name;
+    private final Runnable action;
+    private int warmup = 5;
+    private int samples = 50;
+    private int concurrency = 1;
+    private double targetRate;
+
+    private LatencySampler(String name, Runnable action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    /**
+     * Start building a measurement
+     *
+     * @param name - Name shown in the report, e.g. "GET /products"
+     * @param action - Action to time; throwing counts the sample as an error
+     * @return LatencySampler to configure and run
+     */
+    public static LatencySampler measure(String name, Runnable action) {
+        return new LatencySampler(name, action);
+    }
+
+    /**
+     * @param iterations - Unmeasured iterations run first to warm up connections and JIT
+     */
+    public LatencySampler warmup(int iterations) {
+        this.warmup = Math.max(0, iterations);
+        return this;
+    }
+
+    /**
+     * @param count - Number of measured samples
+     */
+    public LatencySampler samples(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("samples must be at least 1");
+        }
+        this.samples = count;
+        return this;
+    }
+
+    /**
+     * @param threads - Number of threads sending samples; 1 runs them sequentially
+     *                  (virtual threads when thread_mode=virtual)
+     */
+    public LatencySampler concurrency(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        this.concurrency = threads;
+        return this;
+    }
+
+    /**
+     * @param perSecond - Samples started per second across all threads; 0 runs back to back
+     */
+    public LatencySampler targetRate(double perSecond) {
+        this.targetRate = Math.max(0.0, perSecond);
+        return this;
+    }
+
+    /**
+     * Run warmup and measured samples, then attach the distribution to the report
+     *
+     * @return Result with the recorded histograms
+     */
+    public Result run() {
+        for (int i = 0; i < warmup; i++) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                // warmup failures are not part of the measurement
+            }
+        }
+
+        Result result = new Result(name);
+        long intervalNanos = targetRate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / targetRate) : 0;
+        AtomicInteger nextSample = new AtomicInteger();
+        long startNanos = System.nanoTime();
+
+        Runnable worker = () -> {
+            int sample;
+            while ((sample = nextSample.getAndIncrement()) < samples) {
+                long intendedStart = intervalNanos > 0 ? startNanos + sample * intervalNanos : System.nanoTime();
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long actualStart = System.nanoTime();
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    result.recordError(e);
+                }
+                long end = System.nanoTime();
+                result.latency.record(end - intendedStart);
+                result.serviceTime.record(end - actualStart);
+            }
+        };
+
+        if (concurrency == 1) {
+            worker.run();
+        } else {
+            runConcurrently(worker);
+        }
+        result.elapsedNanos = System.nanoTime() - startNanos;
+
+        System.out.println("Latency [" + name + "] " + result.latency
+                + (result.getErrorCount() > 0 ? " errors=" + result.getErrorCount() : ""));
+        ReportManager.logInfo(toHtml(name, result.latency, result.serviceTime));
+        return result;
+    }
+
+    /**
+     * Percentile table of latency from the intended start next to service time
+     */
+    private static String toHtml(String name, LatencyHistogram latency, LatencyHistogram serviceTime) {
+        StringBuilder table = new StringBuilder();
+        table.append("<b>Latency: ").append(name).append("</b> (n=").append(latency.getTotalCount())
+                .append(String.format(", mean=%.1f ms", latency.getMeanMillis())).append(")")
+                .append("<table class='table table-sm'><tr><th>Percentile</th><th>Latency (ms)</th>")
+                .append("<th>Service time (ms)</th></tr>");
+        for (double percentile : LatencyHistogram.REPORTED_PERCENTILES) {
+            table.append(String.format("<tr><td>p%s</td><td>%.2f</td><td>%.2f</td></tr>",
+                    percentile == 100.0 ? "100 (max)" : String.valueOf(percentile).replaceAll("\\.0$", ""),
+                    latency.getPercentileMillis(percentile), serviceTime.getPercentileMillis(percentile)));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+
+    private void runConcurrently(Runnable worker) {
+        ExecutorService executor = ExecutorFactory.newExecutor("latency-sampler", concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Latency sampler worker failed: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Result - Histograms and error count of one measurement
+     */
+    public static class Result {
+        private final String name;
+        // Measured from the intended start; corrected for coordinated omission
+        private final LatencyHistogram latency = new LatencyHistogram();
+        // Measured from the actual send; what a naive client would report
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+        private long elapsedNanos;
+
+        private Result(String name) {
+            this.name = name;
+        }
+
+        private void recordError(Throwable error) {
+            errorCount.incrementAndGet();
+            firstError.compareAndSet(null, error);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the latency distribution to assert budgets against
+         * Equals the service time when no target rate was set
+         */
+        public LatencyHistogram getHistogram() {
+            return latency;
+        }
+
+        public LatencyHistogram getServiceTimeHistogram() {
+            return serviceTime;
+        }
+
+        public int getErrorCount() {
+            return errorCount.get();
+        }
+
+        /**
+         * @return First failure thrown by the action, or null if every sample succeeded
+         */
+        public Throwable getFirstError() {
+            return firstError.get();
+        }
+
+        /**
+         * @return Achieved samples per second
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0.0 : latency.getTotalCount() * 1e9 / elapsedNanos;
+        }
+    }
+}
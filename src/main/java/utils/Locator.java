@@ -0,0 +1,146 @@
+package utils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Locator - Named, timed By declared through the Locators registry
+ * Resolves through a fast primary strategy (id, data-qa or CSS) and falls back
+ * to the original XPath when the primary matches nothing. Every resolution is
+ * timed; fallbacks and ambiguous single-element lookups are counted so the
+ * locator report can flag them.
+ *
+ * Being a By, a Locator works anywhere a By does: driver.findElement(),
+ * WebElement.findElement() and ExpectedConditions.
+ */
+public final class Locator extends By {
+    private final String name;
+    private final By primary;
+    private final By fallback;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fallbackHits = new LongAdder();
+    private final LongAdder ambiguous = new LongAdder();
+    private final AtomicInteger maxMatches = new AtomicInteger();
+
+    Locator(String name, By primary, By fallback) {
+        this.name = name;
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        long start = System.nanoTime();
+        List<WebElement> elements = context.findElements(primary);
+        if (elements.isEmpty() && fallback != null) {
+            elements = context.findElements(fallback);
+            if (!elements.isEmpty()) {
+                fallbackHits.increment();
+            }
+        }
+        latency.record(System.nanoTime() - start);
+        if (elements.isEmpty()) {
+            misses.increment();
+        }
+        maxMatches.accumulateAndGet(elements.size(), Math::max);
+        return elements;
+    }
+
+    /**
+     * Find the first match, counting the lookup as ambiguous if there are several
+     */
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> elements = findElements(context);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate " + this);
+        }
+        if (elements.size() > 1) {
+            ambiguous.increment();
+        }
+        return elements.get(0);
+    }
+
+    /**
+     * @return Registry name, e.g. "HomePage.productsLink"
+     */
+    public String getName() {
+        return name;
+    }
+
+    public By getPrimary() {
+        return primary;
+    }
+
+    /**
+     * @return Original locator used when the primary matches nothing, or null
+     */
+    public By getFallback() {
+        return fallback;
+    }
+
+    /**
+     * @return Strategy of the primary locator, e.g. "css", "id" or "xpath"
+     */
+    public String getStrategy() {
+        String description = primary.toString();
+        if (description.startsWith("By.cssSelector")) {
+            return "css";
+        }
+        if (description.startsWith("By.id")) {
+            return "id";
+        }
+        if (description.startsWith("By.xpath")) {
+            return "xpath";
+        }
+        int colon = description.indexOf(':');
+        return colon > 3 ? description.substring(3, colon) : description;
+    }
+
+    /**
+     * @return Resolution time distribution, including any fallback attempt
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return Resolutions that matched nothing (expected for negative checks and wait polling)
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Resolutions where only the fallback matched, i.e. the primary is stale
+     */
+    public long getFallbackHits() {
+        return fallbackHits.sum();
+    }
+
+    /**
+     * @return Single-element lookups that matched more than one element
+     */
+    public long getAmbiguousCount() {
+        return ambiguous.sum();
+    }
+
+    /**
+     * @return Largest number of elements a resolution matched
+     */
+    public int getMaxMatches() {
+        return maxMatches.get();
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + primary + (fallback != null ? ", fallback " + fallback : "") + ")";
+    }
+}
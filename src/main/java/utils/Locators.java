@@ -0,0 +1,127 @@
+package utils;
+
+import config.ConfigReader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openqa.selenium.By;
+
+/**
+ * Locators - Central registry every page object declares its locators through
+ * Each name maps to one shared Locator, so timings aggregate across page object
+ * instances and threads. At the end of a run the registry reports each locator's
+ * resolution latency and flags:
+ *
+ * SLOW - p95 resolution time above locator_slow_threshold_ms
+ * AMBIGUOUS - a single-element lookup matched several elements
+ * FALLBACK - the fast primary matched nothing but the original XPath did
+ * XPATH - no faster strategy is declared (usually text matching)
+ */
+public final class Locators {
+    private static final Map<String, Locator> registry = new ConcurrentHashMap<>();
+
+    private Locators() {
+    }
+
+    /**
+     * Declare a locator with a single strategy
+     *
+     * @param name - Unique name, e.g. "HomePage.homePageHeading"
+     * @param by - Locator
+     * @return Registered Locator
+     */
+    public static By of(String name, By by) {
+        return of(name, by, null);
+    }
+
+    /**
+     * Declare a locator with a fast primary strategy and a fallback
+     *
+     * @param name - Unique name, e.g. "HomePage.productsLink"
+     * @param primary - Fast strategy: id, data-qa attribute or CSS
+     * @param fallback - Original locator, used when the primary matches nothing
+     * @return Registered Locator
+     */
+    public static By of(String name, By primary, By fallback) {
+        Locator locator = registry.computeIfAbsent(name, key -> new Locator(key, primary, fallback));
+        if (!locator.getPrimary().equals(primary)) {
+            throw new IllegalStateException("Locator '" + name + "' is already declared as " + locator);
+        }
+        return locator;
+    }
+
+    /**
+     * @return Registered locators, slowest p95 first
+     */
+    public static List<Locator> getLocators() {
+        List<Locator> locators = new ArrayList<>(registry.values());
+        locators.sort(Comparator.comparingLong((Locator l) -> l.getLatency().getValueAtPercentile(95)).reversed()
+                .thenComparing(Locator::getName));
+        return locators;
+    }
+
+    /**
+     * Get the flags raised for a locator
+     *
+     * @param locator - Registered locator
+     * @return Flags such as "SLOW, FALLBACK"; empty if none
+     */
+    public static String getFlags(Locator locator) {
+        List<String> flags = new ArrayList<>();
+        if (locator.getLatency().getPercentileMillis(95) > ConfigReader.getLocatorSlowThreshold()) {
+            flags.add("SLOW");
+        }
+        if (locator.getAmbiguousCount() > 0) {
+            flags.add("AMBIGUOUS");
+        }
+        if (locator.getFallbackHits() > 0) {
+            flags.add("FALLBACK");
+        }
+        if (locator.getStrategy().equals("xpath")) {
+            flags.add("XPATH");
+        }
+        return String.join(", ", flags);
+    }
+
+    /**
+     * Print and report per-locator latency for every locator resolved in this run
+     */
+    public static void report() {
+        List<Locator> locators = new ArrayList<>();
+        for (Locator locator : getLocators()) {
+            if (locator.getLatency().getTotalCount() > 0) {
+                locators.add(locator);
+            }
+        }
+        if (locators.isEmpty()) {
+            return;
+        }
+        System.out.println("Locator report (slowest p95 first):");
+        for (Locator locator : locators) {
+            String flags = getFlags(locator);
+            System.out.println(String.format("  %-40s %-6s %s%s", locator.getName(), locator.getStrategy(),
+                    locator.getLatency(), flags.isEmpty() ? "" : "  [" + flags + "]"));
+        }
+        ReportManager.logSummary("Locator Report", "Resolution time of every page object locator",
+                toHtml(locators));
+    }
+
+    private static String toHtml(List<Locator> locators) {
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><tr><th>Locator</th><th>Strategy</th><th>Resolutions</th>")
+                .append("<th>p50 (ms)</th><th>p95 (ms)</th><th>Max (ms)</th><th>Misses</th><th>Fallbacks</th>")
+                .append("<th>Max matches</th><th>Flags</th></tr>");
+        for (Locator locator : locators) {
+            LatencyHistogram latency = locator.getLatency();
+            table.append(String.format("<tr><td>%s</td><td>%s</td><td>%d</td><td>%.1f</td><td>%.1f</td>"
+                            + "<td>%.1f</td><td>%d</td><td>%d</td><td>%d</td><td>%s</td></tr>",
+                    locator.getName(), locator.getStrategy(), latency.getTotalCount(),
+                    latency.getPercentileMillis(50), latency.getPercentileMillis(95), latency.getMaxMillis(),
+                    locator.getMisses(), locator.getFallbackHits(), locator.getMaxMatches(), getFlags(locator)));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+}
@@ -0,0 +1,416 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * OverheadProfiler - Splits each test's time into framework phases
+ * OverheadProfilerListener opens three windows per test on the test's thread:
+ * setup (@BeforeMethod), body (the test method) and teardown (@AfterMethod).
+ * Framework code reports nested phases (driver acquire, waits, report calls,
+ * screenshot, driver release) with time() or record(); whatever is left of a
+ * window is its own phase, so the phases of a test add up to its wall time.
+ *
+ * Work done once per run, such as the final report flush, is recorded with
+ * timeSuite(). Recording is a map lookup and a no-op on threads with no open test.
+ */
+public final class OverheadProfiler {
+    private static final Map<Thread, TestProfile> open = new ConcurrentHashMap<>();
+    private static final List<TestProfile> finished = Collections.synchronizedList(new ArrayList<>());
+    private static final Map<String, Long> suitePhases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private OverheadProfiler() {
+    }
+
+    /**
+     * Phase - Where a test's time went
+     * SETUP, BODY and TEARDOWN hold what is left of each window after the nested phases
+     */
+    public enum Phase {
+        DRIVER_ACQUIRE("driver acquire"),
+        SETUP("setup"),
+        BODY("body"),
+        WAITS("waits"),
+        SCREENSHOT("screenshot"),
+        REPORT("report"),
+        DRIVER_RELEASE("driver release"),
+        TEARDOWN("teardown");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Window - Part of a test run by TestNG, timed by the listener
+     */
+    public enum Window {
+        SETUP(Phase.SETUP),
+        BODY(Phase.BODY),
+        TEARDOWN(Phase.TEARDOWN);
+
+        private final Phase remainder;
+
+        Window(Phase remainder) {
+            this.remainder = remainder;
+        }
+    }
+
+    /**
+     * Open a window on the current thread
+     * A setup or body window after the previous test's body starts a new test
+     *
+     * @param window - Window about to run
+     */
+    public static void startWindow(Window window) {
+        Thread thread = Thread.currentThread();
+        TestProfile profile = open.get(thread);
+        if (profile != null && profile.bodyRun && window != Window.TEARDOWN) {
+            finish(thread);
+            profile = null;
+        }
+        if (profile == null) {
+            profile = new TestProfile();
+            open.put(thread, profile);
+        }
+        profile.current = window;
+        profile.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Close the current thread's open window
+     *
+     * @param testName - Test the window belonged to; null keeps the name already known
+     * @param status - PASS, FAIL or SKIP; null keeps the status already known
+     */
+    public static void endWindow(String testName, String status) {
+        TestProfile profile = open.get(Thread.currentThread());
+        if (profile == null || profile.current == null) {
+            return;
+        }
+        profile.windowNanos.merge(profile.current, System.nanoTime() - profile.windowStart, Long::sum);
+        if (profile.current == Window.BODY) {
+            profile.bodyRun = true;
+        }
+        profile.current = null;
+        if (testName != null) {
+            profile.name = testName;
+        }
+        if (status != null) {
+            profile.status = status;
+        }
+    }
+
+    /**
+     * Time a nested phase on the current thread
+     *
+     * @param phase - Phase the work belongs to
+     * @param work - Work to time
+     */
+    public static void time(Phase phase, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Time a nested phase that returns a value
+     *
+     * @param phase - Phase the work belongs to
+     * @param work - Work to time
+     * @return The work's result
+     */
+    public static <T> T call(Phase phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Add time to a nested phase of the current thread's test
+     * Ignored outside a setup, body or teardown window
+     *
+     * @param phase - Phase the time belongs to
+     * @param nanos - Elapsed time
+     */
+    public static void record(Phase phase, long nanos) {
+        TestProfile profile = open.get(Thread.currentThread());
+        if (profile == null || profile.current == null) {
+            return;
+        }
+        profile.phaseNanos.merge(phase, nanos, Long::sum);
+        profile.nestedNanos.merge(profile.current, nanos, Long::sum);
+    }
+
+    /**
+     * Time work done once for the whole run
+     *
+     * @param name - Phase name, e.g. "report flush"
+     * @param work - Work to time
+     */
+    public static void timeSuite(String name, Runnable work) {
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            suitePhases.merge(name, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Close every test still open; call once all tests have run
+     */
+    public static void finishAll() {
+        for (Thread thread : new ArrayList<>(open.keySet())) {
+            finish(thread);
+        }
+    }
+
+    /**
+     * @return Finished tests, slowest first
+     */
+    public static List<TestProfile> getProfiles() {
+        List<TestProfile> profiles;
+        synchronized (finished) {
+            profiles = new ArrayList<>(finished);
+        }
+        profiles.sort(Comparator.comparingLong(TestProfile::getTotalNanos).reversed());
+        return profiles;
+    }
+
+    /**
+     * @return Run-level phases and their time in nanoseconds
+     */
+    public static Map<String, Long> getSuitePhases() {
+        synchronized (suitePhases) {
+            return new LinkedHashMap<>(suitePhases);
+        }
+    }
+
+    /**
+     * Per-phase distribution across all finished tests
+     *
+     * @return Histogram of each phase's time per test
+     */
+    public static Map<Phase, LatencyHistogram> getPhaseHistograms() {
+        Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+        for (TestProfile profile : getProfiles()) {
+            for (Phase phase : Phase.values()) {
+                histograms.get(phase).record(profile.getPhaseNanos(phase));
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Write overhead-per-test.json, overhead-summary.json and overhead-report.html
+     *
+     * @param directory - Output directory, created if needed
+     * @throws IOException if a file cannot be written
+     */
+    public static void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<TestProfile> profiles = getProfiles();
+        Map<Phase, LatencyHistogram> histograms = getPhaseHistograms();
+        long totalNanos = 0;
+        for (TestProfile profile : profiles) {
+            totalNanos += profile.getTotalNanos();
+        }
+
+        List<Map<String, Object>> tests = new ArrayList<>();
+        for (TestProfile profile : profiles) {
+            Map<String, Object> test = new LinkedHashMap<>();
+            test.put("test", profile.getName());
+            test.put("status", profile.getStatus());
+            test.put("totalMs", millis(profile.getTotalNanos()));
+            Map<String, Object> phases = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                phases.put(phase.getLabel(), millis(profile.getPhaseNanos(phase)));
+            }
+            test.put("phases", phases);
+            tests.add(test);
+        }
+
+        Map<String, Object> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = histograms.get(phase);
+            long phaseTotal = phaseTotal(profiles, phase);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("totalMs", millis(phaseTotal));
+            summary.put("sharePercent", totalNanos == 0 ? 0.0 : round(100.0 * phaseTotal / totalNanos));
+            summary.put("meanMs", round(histogram.getMeanMillis()));
+            summary.put("p50Ms", round(histogram.getPercentileMillis(50)));
+            summary.put("p95Ms", round(histogram.getPercentileMillis(95)));
+            summary.put("maxMs", round(histogram.getMaxMillis()));
+            phases.put(phase.getLabel(), summary);
+        }
+        Map<String, Object> suite = new LinkedHashMap<>();
+        getSuitePhases().forEach((name, nanos) -> suite.put(name, millis(nanos)));
+
+        Map<String, Object> aggregate = new LinkedHashMap<>();
+        aggregate.put("tests", profiles.size());
+        aggregate.put("totalTestMs", millis(totalNanos));
+        aggregate.put("phases", phases);
+        aggregate.put("suitePhasesMs", suite);
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        try (Writer writer = Files.newBufferedWriter(directory.resolve("overhead-per-test.json"),
+                StandardCharsets.UTF_8)) {
+            gson.toJson(tests, writer);
+        }
+        try (Writer writer = Files.newBufferedWriter(directory.resolve("overhead-summary.json"),
+                StandardCharsets.UTF_8)) {
+            gson.toJson(aggregate, writer);
+        }
+        Files.write(directory.resolve("overhead-report.html"),
+                html(profiles, histograms, totalNanos).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String html(List<TestProfile> profiles, Map<Phase, LatencyHistogram> histograms,
+                               long totalNanos) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Framework Overhead</title>")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:24px}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}")
+                .append("th:first-child,td:first-child{text-align:left}</style></head><body>")
+                .append("<h2>Framework overhead by phase</h2>")
+                .append(String.format("<p>%d tests, %.1f s of test time</p>", profiles.size(), totalNanos / 1e9))
+                .append("<table><tr><th>Phase</th><th>Total (s)</th><th>Share</th><th>Mean (ms)</th>")
+                .append("<th>p50 (ms)</th><th>p95 (ms)</th><th>Max (ms)</th></tr>");
+        for (Phase phase : Phase.values()) {
+            LatencyHistogram histogram = histograms.get(phase);
+            long phaseTotal = phaseTotal(profiles, phase);
+            html.append(String.format("<tr><td>%s</td><td>%.2f</td><td>%.1f%%</td><td>%.1f</td><td>%.1f</td>"
+                            + "<td>%.1f</td><td>%.1f</td></tr>", phase.getLabel(), phaseTotal / 1e9,
+                    totalNanos == 0 ? 0.0 : 100.0 * phaseTotal / totalNanos, histogram.getMeanMillis(),
+                    histogram.getPercentileMillis(50), histogram.getPercentileMillis(95), histogram.getMaxMillis()));
+        }
+        html.append("</table>");
+
+        Map<String, Long> suite = getSuitePhases();
+        if (!suite.isEmpty()) {
+            html.append("<h2>Once per run</h2><table><tr><th>Phase</th><th>Time (ms)</th></tr>");
+            suite.forEach((name, nanos) -> html.append(String.format("<tr><td>%s</td><td>%.1f</td></tr>",
+                    escape(name), nanos / 1e6)));
+            html.append("</table>");
+        }
+
+        html.append("<h2>Tests (slowest first, ms)</h2><table><tr><th>Test</th><th>Status</th><th>Total</th>");
+        for (Phase phase : Phase.values()) {
+            html.append("<th>").append(phase.getLabel()).append("</th>");
+        }
+        html.append("</tr>");
+        for (TestProfile profile : profiles) {
+            html.append(String.format("<tr><td>%s</td><td>%s</td><td>%.1f</td>", escape(profile.getName()),
+                    profile.getStatus(), profile.getTotalNanos() / 1e6));
+            for (Phase phase : Phase.values()) {
+                html.append(String.format("<td>%.1f</td>", profile.getPhaseNanos(phase) / 1e6));
+            }
+            html.append("</tr>");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+
+    private static void finish(Thread thread) {
+        TestProfile profile = open.remove(thread);
+        if (profile != null && !profile.windowNanos.isEmpty()) {
+            finished.add(profile);
+        }
+    }
+
+    private static long phaseTotal(List<TestProfile> profiles, Phase phase) {
+        long total = 0;
+        for (TestProfile profile : profiles) {
+            total += profile.getPhaseNanos(phase);
+        }
+        return total;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * TestProfile - Phase times of one test invocation
+     * Written only by the test's own thread; read after the test has finished
+     */
+    public static final class TestProfile {
+        private final Map<Window, Long> windowNanos = new EnumMap<>(Window.class);
+        private final Map<Window, Long> nestedNanos = new EnumMap<>(Window.class);
+        private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+        private Window current;
+        private long windowStart;
+        private boolean bodyRun;
+        private String name = "(unknown)";
+        private String status = "UNKNOWN";
+
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        /**
+         * @param phase - Phase
+         * @return Time in the phase; for SETUP, BODY and TEARDOWN the part of the window not in a nested phase
+         */
+        public long getPhaseNanos(Phase phase) {
+            for (Window window : Window.values()) {
+                if (window.remainder == phase) {
+                    return Math.max(0, windowNanos.getOrDefault(window, 0L) - nestedNanos.getOrDefault(window, 0L));
+                }
+            }
+            return phaseNanos.getOrDefault(phase, 0L);
+        }
+
+        /**
+         * @return Time from the first setup to the end of teardown, excluding gaps between windows
+         */
+        public long getTotalNanos() {
+            long total = 0;
+            for (long nanos : windowNanos.values()) {
+                total += nanos;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package utils;
+
+import config.ConfigReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+/**
+ * PagePerformance - Page speed of every page object transition
+ * After a transition such as HomePage.clickProductsLink the destination page's
+ * Navigation Timing entry, resource timing totals, Largest Contentful Paint and
+ * Cumulative Layout Shift are read in one script call and aggregated per page.
+ *
+ * LCP and CLS come from PerformanceObserver callbacks installed in every new
+ * document through DevTools (Page.addScriptToEvaluateOnNewDocument), so no
+ * layout shift is missed. Without DevTools the observers are created at capture
+ * time with buffered entries. Values are taken when the page becomes usable:
+ * with page_load_strategy=eager the load event and LCP may not be final yet.
+ *
+ * At the end of the run each page's p75 is compared with the perf_budget_* values.
+ */
+public final class PagePerformance {
+    private static final String OBSERVER_SCRIPT =
+            "(function () {"
+            + "  var perf = window.__pagePerf = {lcp: 0, cls: 0};"
+            + "  try {"
+            + "    new PerformanceObserver(function (list) {"
+            + "      list.getEntries().forEach(function (e) { perf.lcp = Math.max(perf.lcp, e.startTime); });"
+            + "    }).observe({type: 'largest-contentful-paint', buffered: true});"
+            + "    new PerformanceObserver(function (list) {"
+            + "      list.getEntries().forEach(function (e) { if (!e.hadRecentInput) { perf.cls += e.value; } });"
+            + "    }).observe({type: 'layout-shift', buffered: true});"
+            + "  } catch (e) { }"
+            + "})();";
+
+    private static final String CAPTURE_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (!nav) { return null; }"
+            + "var perf = window.__pagePerf;"
+            + "if (!perf) {"
+            + "  perf = {lcp: 0, cls: 0};"
+            + "  try {"
+            + "    var lcp = new PerformanceObserver(function () { });"
+            + "    lcp.observe({type: 'largest-contentful-paint', buffered: true});"
+            + "    lcp.takeRecords().forEach(function (e) { perf.lcp = Math.max(perf.lcp, e.startTime); });"
+            + "    lcp.disconnect();"
+            + "    var cls = new PerformanceObserver(function () { });"
+            + "    cls.observe({type: 'layout-shift', buffered: true});"
+            + "    cls.takeRecords().forEach(function (e) { if (!e.hadRecentInput) { perf.cls += e.value; } });"
+            + "    cls.disconnect();"
+            + "  } catch (e) { }"
+            + "}"
+            + "var resources = performance.getEntriesByType('resource'), bytes = 0;"
+            + "resources.forEach(function (r) { bytes += r.transferSize || 0; });"
+            + "return {timeOrigin: performance.timeOrigin, ttfb: nav.responseStart,"
+            + "  domContentLoaded: nav.domContentLoadedEventEnd, load: nav.loadEventEnd,"
+            + "  lcp: perf.lcp, cls: perf.cls, resources: resources.length, transferBytes: bytes};";
+
+    private static final Map<String, PageStats> pages = new ConcurrentHashMap<>();
+    // Last captured document per session, so a transition that did not navigate is not counted twice
+    private static final Map<WebDriver, Double> lastTimeOrigin = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PagePerformance() {
+    }
+
+    /**
+     * Install the LCP and CLS observers in every document the session loads
+     *
+     * @param driver - Newly created WebDriver session
+     */
+    public static void apply(WebDriver driver) {
+        if (ConfigReader.isPerfCaptureEnabled() && driver instanceof ChromiumDriver) {
+            ((ChromiumDriver) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", OBSERVER_SCRIPT));
+        }
+    }
+
+    /**
+     * Record the current document's timings after a page object transition
+     * Call once the destination page is ready
+     *
+     * @param driver - WebDriver on the destination page
+     * @param page - Destination page, e.g. "ProductsPage"
+     * @param action - Transition, e.g. "HomePage.clickProductsLink"
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String page, String action) {
+        if (!ConfigReader.isPerfCaptureEnabled()) {
+            return;
+        }
+        Map<String, Object> values;
+        try {
+            values = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (values == null) {
+            return;
+        }
+        Double timeOrigin = number(values, "timeOrigin");
+        if (timeOrigin.equals(lastTimeOrigin.put(driver, timeOrigin))) {
+            return;
+        }
+
+        PageSample sample = new PageSample(number(values, "ttfb"), number(values, "domContentLoaded"),
+                number(values, "load"), number(values, "lcp"), number(values, "cls"),
+                number(values, "resources").longValue(), number(values, "transferBytes").longValue());
+        pages.computeIfAbsent(page, PageStats::new).record(action, sample);
+
+        List<String> overBudget = getBudgetViolations(sample.ttfb, sample.domContentLoaded, sample.lcp, sample.cls);
+        ReportManager.logInfo(String.format("Performance %s (%s): TTFB %.0f ms, DOMContentLoaded %.0f ms, "
+                        + "LCP %.0f ms, CLS %.3f, %d resources (%.0f KB)%s", page, action, sample.ttfb,
+                sample.domContentLoaded, sample.lcp, sample.cls, sample.resources, sample.transferBytes / 1024.0,
+                overBudget.isEmpty() ? "" : " - over budget: " + String.join(", ", overBudget)));
+    }
+
+    /**
+     * @return Stats of every page captured in this run, by page name
+     */
+    public static Map<String, PageStats> getPages() {
+        return new TreeMap<>(pages);
+    }
+
+    /**
+     * Compare values with the configured budgets
+     *
+     * @return Descriptions of the values over budget, e.g. "LCP 3120 > 2500 ms"; empty if none
+     */
+    public static List<String> getBudgetViolations(double ttfb, double domContentLoaded, double lcp, double cls) {
+        List<String> violations = new ArrayList<>();
+        checkBudget(violations, "TTFB", ttfb, ConfigReader.getPerfBudgetTtfb());
+        checkBudget(violations, "DOMContentLoaded", domContentLoaded, ConfigReader.getPerfBudgetDomContentLoaded());
+        checkBudget(violations, "LCP", lcp, ConfigReader.getPerfBudgetLcp());
+        if (cls > ConfigReader.getPerfBudgetCls()) {
+            violations.add(String.format("CLS %.3f > %.3f", cls, ConfigReader.getPerfBudgetCls()));
+        }
+        return violations;
+    }
+
+    /**
+     * Print and report each page's p75 timings against the budgets
+     */
+    public static void report() {
+        Map<String, PageStats> all = getPages();
+        if (all.isEmpty()) {
+            return;
+        }
+        System.out.println("Page performance (p75):");
+        for (PageStats stats : all.values()) {
+            List<String> overBudget = stats.getBudgetViolations();
+            System.out.println(String.format("  %-15s n=%-4d TTFB=%.0f DCL=%.0f LCP=%.0f ms CLS=%.3f%s",
+                    stats.getName(), stats.getSamples(), stats.getTtfb().getPercentileMillis(75),
+                    stats.getDomContentLoaded().getPercentileMillis(75), stats.getLcp().getPercentileMillis(75),
+                    stats.getClsPercentile(75), overBudget.isEmpty() ? "" : "  [over budget: "
+                            + String.join(", ", overBudget) + "]"));
+        }
+        ReportManager.logSummary("Page Performance", "Navigation Timing and web vitals per page",
+                toHtml(all.values()));
+    }
+
+    /**
+     * p75 timings per page; cells over budget are marked in bold
+     */
+    private static String toHtml(Collection<PageStats> pages) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("<b>Budgets (p75): TTFB %d ms, DOMContentLoaded %d ms, LCP %d ms, CLS %.2f</b>",
+                ConfigReader.getPerfBudgetTtfb(), ConfigReader.getPerfBudgetDomContentLoaded(),
+                ConfigReader.getPerfBudgetLcp(), ConfigReader.getPerfBudgetCls()))
+                .append("<table class='table table-sm'><tr><th>Page</th><th>Samples</th><th>TTFB (ms)</th>")
+                .append("<th>DOMContentLoaded (ms)</th><th>Load (ms)</th><th>LCP (ms)</th><th>CLS</th>")
+                .append("<th>Resources</th><th>Transfer (KB)</th><th>Over budget</th><th>Reached by</th></tr>");
+        for (PageStats page : pages) {
+            double ttfb = page.getTtfb().getPercentileMillis(75);
+            double domContentLoaded = page.getDomContentLoaded().getPercentileMillis(75);
+            double lcp = page.getLcp().getPercentileMillis(75);
+            double cls = page.getClsPercentile(75);
+            table.append(String.format("<tr><td>%s</td><td>%d</td><td>%s</td><td>%s</td><td>%.0f</td><td>%s</td>"
+                            + "<td>%s</td><td>%.0f</td><td>%.0f</td><td>%s</td><td>%s</td></tr>",
+                    page.getName(), page.getSamples(),
+                    budgetCell(String.format("%.0f", ttfb), ttfb > ConfigReader.getPerfBudgetTtfb()),
+                    budgetCell(String.format("%.0f", domContentLoaded),
+                            domContentLoaded > ConfigReader.getPerfBudgetDomContentLoaded()),
+                    page.getLoad().getPercentileMillis(75),
+                    budgetCell(String.format("%.0f", lcp), lcp > ConfigReader.getPerfBudgetLcp()),
+                    budgetCell(String.format("%.3f", cls), cls > ConfigReader.getPerfBudgetCls()),
+                    page.getMeanResources(), page.getMeanTransferBytes() / 1024.0,
+                    String.join(", ", page.getBudgetViolations()), String.join(", ", page.getActions())));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+
+    private static String budgetCell(String value, boolean overBudget) {
+        return overBudget ? "<b>" + value + "</b>" : value;
+    }
+
+    private static void checkBudget(List<String> violations, String metric, double millis, int budget) {
+        if (millis > budget) {
+            violations.add(String.format("%s %.0f > %d ms", metric, millis, budget));
+        }
+    }
+
+    private static Double number(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    private static long toNanos(double millis) {
+        return (long) (millis * 1_000_000);
+    }
+
+    /**
+     * PageSample - Values read from one document
+     */
+    private static final class PageSample {
+        private final double ttfb;
+        private final double domContentLoaded;
+        private final double load;
+        private final double lcp;
+        private final double cls;
+        private final long resources;
+        private final long transferBytes;
+
+        private PageSample(double ttfb, double domContentLoaded, double load, double lcp, double cls,
+                           long resources, long transferBytes) {
+            this.ttfb = ttfb;
+            this.domContentLoaded = domContentLoaded;
+            this.load = load;
+            this.lcp = lcp;
+            this.cls = cls;
+            this.resources = resources;
+            this.transferBytes = transferBytes;
+        }
+    }
+
+    /**
+     * PageStats - Timings of one page across the run
+     * Times are relative to navigation start; load and LCP are only recorded when
+     * they had happened by the time the page was ready.
+     */
+    public static final class PageStats {
+        private final String name;
+        private final LatencyHistogram ttfb = new LatencyHistogram();
+        private final LatencyHistogram domContentLoaded = new LatencyHistogram();
+        private final LatencyHistogram load = new LatencyHistogram();
+        private final LatencyHistogram lcp = new LatencyHistogram();
+        private final List<Double> cls = Collections.synchronizedList(new ArrayList<>());
+        private final LongAdder resources = new LongAdder();
+        private final LongAdder transferBytes = new LongAdder();
+        private final Set<String> actions = ConcurrentHashMap.newKeySet();
+
+        private PageStats(String name) {
+            this.name = name;
+        }
+
+        private void record(String action, PageSample sample) {
+            actions.add(action);
+            ttfb.record(toNanos(sample.ttfb));
+            domContentLoaded.record(toNanos(sample.domContentLoaded));
+            if (sample.load > 0) {
+                load.record(toNanos(sample.load));
+            }
+            if (sample.lcp > 0) {
+                lcp.record(toNanos(sample.lcp));
+            }
+            cls.add(sample.cls);
+            resources.add(sample.resources);
+            transferBytes.add(sample.transferBytes);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Number of transitions captured
+         */
+        public long getSamples() {
+            return ttfb.getTotalCount();
+        }
+
+        public LatencyHistogram getTtfb() {
+            return ttfb;
+        }
+
+        public LatencyHistogram getDomContentLoaded() {
+            return domContentLoaded;
+        }
+
+        public LatencyHistogram getLoad() {
+            return load;
+        }
+
+        public LatencyHistogram getLcp() {
+            return lcp;
+        }
+
+        /**
+         * @param percentile - Percentile, e.g. 75
+         * @return CLS at the percentile, 0 if nothing was captured
+         */
+        public double getClsPercentile(double percentile) {
+            List<Double> sorted;
+            synchronized (cls) {
+                sorted = new ArrayList<>(cls);
+            }
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+        }
+
+        /**
+         * @return Mean number of resources per document
+         */
+        public double getMeanResources() {
+            return getSamples() == 0 ? 0 : (double) resources.sum() / getSamples();
+        }
+
+        /**
+         * @return Mean transferred bytes per document, as reported by resource timing
+         */
+        public double getMeanTransferBytes() {
+            return getSamples() == 0 ? 0 : (double) transferBytes.sum() / getSamples();
+        }
+
+        /**
+         * @return Transitions that led to this page
+         */
+        public Set<String> getActions() {
+            return new TreeSet<>(actions);
+        }
+
+        /**
+         * @return p75 values over budget; empty if the page is within every budget
+         */
+        public List<String> getBudgetViolations() {
+            return PagePerformance.getBudgetViolations(ttfb.getPercentileMillis(75),
+                    domContentLoaded.getPercentileMillis(75), lcp.getPercentileMillis(75), getClsPercentile(75));
+        }
+    }
+}
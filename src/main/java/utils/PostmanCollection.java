@@ -0,0 +1,325 @@
+package utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import config.ResourceCache;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * PostmanCollection - Imports a Postman v2.1 collection as RequestPlans
+ * Each collection is parsed and compiled once per JVM. Folders become plan
+ * folders, {{variables}} are resolved from the collection's variable list and
+ * :pathVariables / {{pathVariables}} become RestAssured path parameters.
+ * Scheme and host are dropped; plans are sent relative to api_base_url.
+ */
+public final class PostmanCollection {
+    public static final String FAKESTORE_COLLECTION = "postman/fakestore-api.postman_collection.json";
+
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{\\s*([^}\\s]+)\\s*}}");
+    private static final Map<String, PostmanCollection> collections = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final List<RequestPlan> plans;
+    private final Map<String, RequestPlan> plansByName;
+
+    private PostmanCollection(String name, List<RequestPlan> plans) {
+        this.name = name;
+        this.plans = Collections.unmodifiableList(plans);
+        Map<String, RequestPlan> byName = new LinkedHashMap<>();
+        for (RequestPlan plan : plans) {
+            byName.put(plan.getQualifiedName(), plan);
+        }
+        this.plansByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Get a compiled collection, importing it on first use
+     *
+     * @param resource - Classpath resource name or path of the collection file
+     * @return PostmanCollection
+     */
+    public static PostmanCollection load(String resource) {
+        return collections.computeIfAbsent(resource, PostmanCollection::parse);
+    }
+
+    /**
+     * @return Collection name from its info block
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return All plans in collection order
+     */
+    public List<RequestPlan> getPlans() {
+        return plans;
+    }
+
+    /**
+     * Get a plan by its qualified name
+     *
+     * @param qualifiedName - "Folder/Item", e.g. "Carts/Create Cart"
+     * @return RequestPlan
+     */
+    public RequestPlan getPlan(String qualifiedName) {
+        RequestPlan plan = plansByName.get(qualifiedName);
+        if (plan == null) {
+            throw new IllegalArgumentException("No request '" + qualifiedName + "' in collection " + name
+                    + "; available: " + plansByName.keySet());
+        }
+        return plan;
+    }
+
+    /**
+     * @param folder - Folder path, e.g. "Products"
+     * @return Plans in that folder, in collection order
+     */
+    public List<RequestPlan> getPlansInFolder(String folder) {
+        return plans.stream().filter(plan -> plan.getFolder().equals(folder)).collect(Collectors.toList());
+    }
+
+    /**
+     * @return Plans that only read data, safe to run alongside other tests
+     */
+    public List<RequestPlan> getReadOnlyPlans() {
+        return plans.stream().filter(RequestPlan::isReadOnly).collect(Collectors.toList());
+    }
+
+    // ------------------------------------------------------------------
+    // Import
+    // ------------------------------------------------------------------
+
+    private static PostmanCollection parse(String resource) {
+        JsonObject root;
+        try (Reader reader = new InputStreamReader(ResourceCache.open(resource), StandardCharsets.UTF_8)) {
+            root = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Error importing Postman collection " + resource + ": "
+                    + e.getMessage(), e);
+        }
+
+        Map<String, String> variables = new LinkedHashMap<>();
+        if (root.has("variable")) {
+            for (JsonElement variable : root.getAsJsonArray("variable")) {
+                JsonObject entry = variable.getAsJsonObject();
+                variables.put(string(entry, "key"), string(entry, "value"));
+            }
+        }
+
+        List<RequestPlan> plans = new ArrayList<>();
+        if (root.has("item")) {
+            compileItems(root.getAsJsonArray("item"), "", variables, plans);
+        }
+        String name = root.has("info") ? string(root.getAsJsonObject("info"), "name") : resource;
+        return new PostmanCollection(name, plans);
+    }
+
+    private static void compileItems(JsonArray items, String folder, Map<String, String> variables,
+                                     List<RequestPlan> plans) {
+        for (JsonElement element : items) {
+            JsonObject item = element.getAsJsonObject();
+            String itemName = string(item, "name");
+            if (item.has("item")) {
+                String subFolder = folder.isEmpty() ? itemName : folder + "/" + itemName;
+                compileItems(item.getAsJsonArray("item"), subFolder, variables, plans);
+            } else if (item.has("request")) {
+                plans.add(compileRequest(itemName, folder, item.get("request"), variables));
+            }
+        }
+    }
+
+    private static RequestPlan compileRequest(String name, String folder, JsonElement requestElement,
+                                              Map<String, String> variables) {
+        // A request may be just a URL string
+        JsonObject request = requestElement.isJsonObject() ? requestElement.getAsJsonObject() : new JsonObject();
+        JsonElement url = requestElement.isJsonObject() ? request.get("url") : requestElement;
+        String method = request.has("method") ? string(request, "method").toUpperCase() : "GET";
+
+        Map<String, String> pathDefaults = new LinkedHashMap<>();
+        Map<String, String> queryParams = new LinkedHashMap<>();
+        String pathTemplate = compileUrl(url, variables, pathDefaults, queryParams);
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (request.has("header") && request.get("header").isJsonArray()) {
+            for (JsonElement header : request.getAsJsonArray("header")) {
+                JsonObject entry = header.getAsJsonObject();
+                if (!isDisabled(entry)) {
+                    headers.put(string(entry, "key"), resolve(string(entry, "value"), variables));
+                }
+            }
+        }
+
+        String body = null;
+        if (request.has("body") && request.get("body").isJsonObject()) {
+            JsonObject bodyObject = request.getAsJsonObject("body");
+            if ("raw".equals(string(bodyObject, "mode")) && bodyObject.has("raw")) {
+                body = string(bodyObject, "raw");
+            } else if (bodyObject.has("mode")) {
+                throw new IllegalStateException("Unsupported body mode '" + string(bodyObject, "mode")
+                        + "' in request '" + name + "'; only raw bodies are supported");
+            }
+        }
+
+        return new RequestPlan(name, folder, method, pathTemplate, pathDefaults, queryParams, headers, body,
+                Collections.unmodifiableMap(variables));
+    }
+
+    /**
+     * Turn a Postman URL into a path template relative to the API base URL
+     */
+    private static String compileUrl(JsonElement url, Map<String, String> variables,
+                                     Map<String, String> pathDefaults, Map<String, String> queryParams) {
+        List<String> segments = new ArrayList<>();
+        Map<String, String> pathVariables = new LinkedHashMap<>();
+
+        if (url == null || url.isJsonNull()) {
+            return "/";
+        }
+        if (url.isJsonPrimitive()) {
+            String raw = stripOrigin(url.getAsString());
+            int query = raw.indexOf('?');
+            if (query >= 0) {
+                for (String pair : raw.substring(query + 1).split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (!pair.isEmpty()) {
+                        queryParams.put(eq >= 0 ? pair.substring(0, eq) : pair,
+                                resolve(eq >= 0 ? pair.substring(eq + 1) : "", variables));
+                    }
+                }
+                raw = raw.substring(0, query);
+            }
+            for (String segment : raw.split("/")) {
+                if (!segment.isEmpty()) {
+                    segments.add(segment);
+                }
+            }
+        } else {
+            JsonObject urlObject = url.getAsJsonObject();
+            if (urlObject.has("path")) {
+                JsonElement path = urlObject.get("path");
+                if (path.isJsonArray()) {
+                    for (JsonElement segment : path.getAsJsonArray()) {
+                        segments.add(segment.isJsonPrimitive() ? segment.getAsString()
+                                : string(segment.getAsJsonObject(), "value"));
+                    }
+                } else {
+                    for (String segment : path.getAsString().split("/")) {
+                        if (!segment.isEmpty()) {
+                            segments.add(segment);
+                        }
+                    }
+                }
+            } else if (urlObject.has("raw")) {
+                return compileUrl(urlObject.get("raw"), variables, pathDefaults, queryParams);
+            }
+            if (urlObject.has("query")) {
+                for (JsonElement parameter : urlObject.getAsJsonArray("query")) {
+                    JsonObject entry = parameter.getAsJsonObject();
+                    if (!isDisabled(entry)) {
+                        queryParams.put(string(entry, "key"), resolve(string(entry, "value"), variables));
+                    }
+                }
+            }
+            if (urlObject.has("variable")) {
+                for (JsonElement variable : urlObject.getAsJsonArray("variable")) {
+                    JsonObject entry = variable.getAsJsonObject();
+                    pathVariables.put(string(entry, "key"), string(entry, "value"));
+                }
+            }
+        }
+
+        StringBuilder template = new StringBuilder();
+        for (String segment : segments) {
+            template.append('/');
+            Matcher whole = VARIABLE.matcher(segment);
+            if (segment.startsWith(":")) {
+                String variable = segment.substring(1);
+                pathDefaults.put(variable, pathVariables.getOrDefault(variable, ""));
+                template.append('{').append(variable).append('}');
+            } else if (whole.matches()) {
+                String variable = whole.group(1);
+                pathDefaults.put(variable, variables.getOrDefault(variable, ""));
+                template.append('{').append(variable).append('}');
+            } else {
+                template.append(resolve(segment, variables));
+            }
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    /**
+     * Drop scheme and host, including a {{baseUrl}}-style host variable
+     */
+    private static String stripOrigin(String raw) {
+        String url = raw.trim();
+        int scheme = url.indexOf("://");
+        if (scheme >= 0) {
+            url = url.substring(scheme + 3);
+            int slash = url.indexOf('/');
+            return slash >= 0 ? url.substring(slash) : "/";
+        }
+        if (url.startsWith("{{")) {
+            int end = url.indexOf("}}");
+            return end >= 0 ? url.substring(end + 2) : url;
+        }
+        return url;
+    }
+
+    /**
+     * Replace {{variables}} that have a collection value; unknown ones are kept
+     */
+    private static String resolve(String value, Map<String, String> variables) {
+        if (value == null || value.indexOf("{{") < 0) {
+            return value;
+        }
+        Matcher matcher = VARIABLE.matcher(value);
+        StringBuffer resolved = new StringBuffer();
+        while (matcher.find()) {
+            String replacement = variables.getOrDefault(matcher.group(1), matcher.group());
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Split a template into alternating literal text and variable names
+     * A result of size 1 means the template has no placeholders
+     */
+    static List<String> splitTemplate(String template) {
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = VARIABLE.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            parts.add(template.substring(last, matcher.start()));
+            parts.add(matcher.group(1));
+            last = matcher.end();
+        }
+        parts.add(template.substring(last));
+        return parts;
+    }
+
+    private static boolean isDisabled(JsonObject entry) {
+        return entry.has("disabled") && entry.get("disabled").getAsBoolean();
+    }
+
+    private static String string(JsonObject object, String key) {
+        JsonElement value = object.get(key);
+        return value != null && !value.isJsonNull() ? value.getAsString() : "";
+    }
+}
@@ -0,0 +1,226 @@
+package utils;
+
+import config.ConfigReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * ReadinessContract - What a page needs before a test can use it
+ * With page_load_strategy=eager or none the driver no longer waits for every
+ * subresource, so each page object declares its own readiness instead: required
+ * elements, a JavaScript condition and optionally network idle. Navigation
+ * returns as soon as the contract holds, not when the last tracking pixel loads.
+ *
+ * <pre>
+ * ReadinessContract.forPage("ProductsPage")
+ *         .element(productsPageTitle)
+ *         .script("return !window.jQuery || jQuery.active === 0")
+ *         .build();
+ * </pre>
+ */
+public final class ReadinessContract {
+    private static final String READY_STATE_SCRIPT = "return document.readyState";
+    private static final String RESOURCE_COUNT_SCRIPT = "return performance.getEntriesByType('resource').length";
+
+    private final String page;
+    private final List<By> elements;
+    private final List<String> scripts;
+    private final Duration networkQuietPeriod;
+
+    private ReadinessContract(Builder builder) {
+        this.page = builder.page;
+        this.elements = Collections.unmodifiableList(new ArrayList<>(builder.elements));
+        this.scripts = Collections.unmodifiableList(new ArrayList<>(builder.scripts));
+        this.networkQuietPeriod = builder.networkQuietPeriod;
+    }
+
+    /**
+     * Start declaring a contract
+     *
+     * @param page - Page name used in wait stats and timeout messages
+     * @return Builder
+     */
+    public static Builder forPage(String page) {
+        return new Builder(page);
+    }
+
+    /**
+     * Wait until the page is ready
+     *
+     * @param driver - WebDriver on the page
+     * @param timeout - Maximum time to wait
+     * @throws TimeoutException if the contract does not hold in time
+     */
+    public void await(WebDriver driver, Duration timeout) {
+        if (!isMetWithin(driver, timeout)) {
+            throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for " + page
+                    + " to be ready (" + describe() + ")");
+        }
+    }
+
+    /**
+     * Check the contract the way a state check should
+     * With eager or normal loading the driver already waited for the document,
+     * so the contract is checked once and a negative answer is immediate. With
+     * page_load_strategy=none nothing has waited yet, so it waits up to explicit_wait.
+     *
+     * @param driver - WebDriver on the page
+     * @return true if the page is ready
+     */
+    public boolean isMet(WebDriver driver) {
+        Duration timeout = "none".equalsIgnoreCase(ConfigReader.getPageLoadStrategy())
+                ? Duration.ofSeconds(ConfigReader.getExplicitWait()) : Duration.ZERO;
+        return isMetWithin(driver, timeout);
+    }
+
+    /**
+     * Wait up to a duration for the page to be ready
+     *
+     * @param driver - WebDriver on the page
+     * @param timeout - Maximum time to wait
+     * @return true as soon as the contract holds, false if it did not within the timeout
+     */
+    public boolean isMetWithin(WebDriver driver, Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        // Stages share one deadline; each one starts when the previous holds
+        if (!WaitEngine.within("ready " + page + ": document parsed", timeout,
+                () -> !"loading".equals(js.executeScript(READY_STATE_SCRIPT)))) {
+            return false;
+        }
+        for (By element : elements) {
+            if (!WaitEngine.within("ready " + page + ": " + describe(element), remaining(deadline),
+                    () -> isDisplayed(driver, element))) {
+                return false;
+            }
+        }
+        for (String script : scripts) {
+            if (!WaitEngine.within("ready " + page + ": script", remaining(deadline),
+                    () -> isTruthy(js.executeScript(script)))) {
+                return false;
+            }
+        }
+        return networkQuietPeriod == null || WaitEngine.within("ready " + page + ": network idle",
+                remaining(deadline), new NetworkIdle(js, networkQuietPeriod)::check);
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadinessContract[" + page + ": " + describe() + "]";
+    }
+
+    private String describe() {
+        List<String> parts = new ArrayList<>();
+        for (By element : elements) {
+            parts.add(describe(element));
+        }
+        if (!scripts.isEmpty()) {
+            parts.add(scripts.size() + " script condition(s)");
+        }
+        if (networkQuietPeriod != null) {
+            parts.add("network idle for " + networkQuietPeriod.toMillis() + " ms");
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String describe(By element) {
+        return element instanceof Locator ? ((Locator) element).getName() : element.toString();
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    private static boolean isDisplayed(WebDriver driver, By element) {
+        for (WebElement candidate : driver.findElements(element)) {
+            if (candidate.isDisplayed()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTruthy(Object value) {
+        return value != null && !Boolean.FALSE.equals(value) && !"".equals(value);
+    }
+
+    /**
+     * NetworkIdle - Holds once no new resource has finished loading for the quiet period
+     */
+    private static final class NetworkIdle {
+        private final JavascriptExecutor js;
+        private final long quietNanos;
+        private long lastCount = -1;
+        private long lastChange;
+
+        private NetworkIdle(JavascriptExecutor js, Duration quietPeriod) {
+            this.js = js;
+            this.quietNanos = quietPeriod.toNanos();
+        }
+
+        private boolean check() {
+            long count = ((Number) js.executeScript(RESOURCE_COUNT_SCRIPT)).longValue();
+            long now = System.nanoTime();
+            if (count != lastCount) {
+                lastCount = count;
+                lastChange = now;
+                return false;
+            }
+            return now - lastChange >= quietNanos;
+        }
+    }
+
+    /**
+     * Builder - Declares the conditions of a contract
+     */
+    public static final class Builder {
+        private final String page;
+        private final List<By> elements = new ArrayList<>();
+        private final List<String> scripts = new ArrayList<>();
+        private Duration networkQuietPeriod;
+
+        private Builder(String page) {
+            this.page = page;
+        }
+
+        /**
+         * @param locator - Element that must be displayed
+         */
+        public Builder element(By locator) {
+            elements.add(locator);
+            return this;
+        }
+
+        /**
+         * @param script - JavaScript returning a truthy value once the page is usable
+         */
+        public Builder script(String script) {
+            scripts.add(script);
+            return this;
+        }
+
+        /**
+         * @param quietMillis - Time without a newly finished resource that counts as network idle
+         */
+        public Builder networkIdle(long quietMillis) {
+            this.networkQuietPeriod = Duration.ofNanos(TimeUnit.MILLISECONDS.toNanos(quietMillis));
+            return this;
+        }
+
+        public ReadinessContract build() {
+            return new ReadinessContract(this);
+        }
+    }
+}
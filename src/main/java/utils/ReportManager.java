@@ -6,18 +6,33 @@ import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import config.ConfigReader;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ReportManager - Manages Extent Reports for test execution
+ * Test threads only enqueue events; a single background writer applies them
+ * to the report and flushes in batches
  */
 public class ReportManager {
-    private static ExtentReports extentReports;
-    private static ExtentTest extentTest;
+    private static volatile ExtentReports extentReports;
+    private static volatile ReportWriter reportWriter;
+    // Each test thread logs to its own node so parallel tests do not interleave
+    private static final ThreadLocal<TestNode> currentTest = new ThreadLocal<>();
 
     /**
-     * Initialize Extent Reports
+     * Initialize Extent Reports and start the background writer
      */
-    public static void initializeReport() {
+    public static synchronized void initializeReport() {
+        if (extentReports != null) {
+            return;
+        }
+
         String reportPath = ConfigReader.getReportPath() + "extent-report-" +
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss")) + ".html";
 
@@ -25,11 +40,21 @@ public class ReportManager {
         sparkReporter.config().setReportName("Automation Exercise Framework - Test Report");
         sparkReporter.config().setDocumentTitle("Test Execution Report");
 
-        extentReports = new ExtentReports();
-        extentReports.attachReporter(sparkReporter);
-        extentReports.setSystemInfo("Environment", "QA");
-        extentReports.setSystemInfo("Browser", ConfigReader.getBrowser());
-        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        reports.setSystemInfo("Environment", "QA");
+        reports.setSystemInfo("Browser", ConfigReader.getBrowser());
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+
+        ReportWriter writer = new ReportWriter(reports,
+                ConfigReader.getReportQueueCapacity(),
+                ConfigReader.getReportFlushBatchSize(),
+                ConfigReader.getReportFlushInterval());
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ReportManager::shutdown, "report-writer-shutdown"));
+
+        extentReports = reports;
+        reportWriter = writer;
     }
 
     /**
@@ -42,7 +67,9 @@ public class ReportManager {
         if (extentReports == null) {
             initializeReport();
         }
-        extentTest = extentReports.createTest(testName, description);
+        TestNode node = new TestNode(testName, description);
+        currentTest.set(node);
+        enqueue(new ReportEvent(node, EventType.START, description));
     }
 
     /**
@@ -51,9 +78,7 @@ public class ReportManager {
      * @param message - Message to log
      */
     public static void logPass(String message) {
-        if (extentTest != null) {
-            extentTest.pass(message);
-        }
+        log(EventType.PASS, message);
     }
 
     /**
@@ -62,9 +87,7 @@ public class ReportManager {
      * @param message - Message to log
      */
     public static void logFail(String message) {
-        if (extentTest != null) {
-            extentTest.fail(message);
-        }
+        log(EventType.FAIL, message);
     }
 
     /**
@@ -73,9 +96,7 @@ public class ReportManager {
      * @param message - Message to log
      */
     public static void logSkip(String message) {
-        if (extentTest != null) {
-            extentTest.skip(message);
-        }
+        log(EventType.SKIP, message);
     }
 
     /**
@@ -84,9 +105,7 @@ public class ReportManager {
      * @param message - Message to log
      */
     public static void logInfo(String message) {
-        if (extentTest != null) {
-            extentTest.info(message);
-        }
+        log(EventType.INFO, message);
     }
 
     /**
@@ -95,17 +114,303 @@ public class ReportManager {
      * @param screenshotPath - Path to screenshot
      */
     public static void attachScreenshot(String screenshotPath) {
-        if (extentTest != null && screenshotPath != null) {
-            extentTest.addScreenCaptureFromPath(screenshotPath);
+        if (screenshotPath != null) {
+            log(EventType.SCREENSHOT, screenshotPath);
         }
     }
 
     /**
-     * Flush the report
+     * Attach a screenshot that is still being written
+     * It is added to the current test once the file exists
+     *
+     * @param screenshotPath - Future path to screenshot
+     */
+    public static void attachScreenshot(CompletableFuture<String> screenshotPath) {
+        TestNode node = currentTest.get();
+        if (node != null && screenshotPath != null) {
+            screenshotPath.thenAccept(path -> {
+                if (path != null) {
+                    enqueue(new ReportEvent(node, EventType.SCREENSHOT, path));
+                }
+            });
+        }
+    }
+
+    /**
+     * Add a run-level summary to the report as its own entry
+     * Not tied to the calling thread's test, so it can be used from suite listeners
+     *
+     * @param name - Entry name
+     * @param description - Entry description
+     * @param html - Summary content
+     */
+    public static void logSummary(String name, String description, String html) {
+        if (extentReports == null) {
+            return;
+        }
+        TestNode node = new TestNode(name, description);
+        enqueue(new ReportEvent(node, EventType.START, description));
+        enqueue(new ReportEvent(node, EventType.INFO, html));
+    }
+
+    /**
+     * Detach the current thread from its test node
+     */
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Ask the writer to flush at its next opportunity
+     * Does not block; repeated requests between two flushes are coalesced
      */
     public static void flushReport() {
-        if (extentReports != null) {
-            extentReports.flush();
+        ReportWriter writer = reportWriter;
+        if (writer != null) {
+            writer.requestFlush();
+        }
+    }
+
+    /**
+     * Wait until every queued event is written and the report is flushed
+     * Intended for suite boundaries, not for individual tests
+     */
+    public static void flushAndWait() {
+        ReportWriter writer = reportWriter;
+        if (writer != null) {
+            writer.flushAndWait();
+        }
+    }
+
+    /**
+     * Drain the queue, write the final report and stop the writer
+     */
+    public static synchronized void shutdown() {
+        ReportWriter writer = reportWriter;
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private static void log(EventType type, String message) {
+        TestNode node = currentTest.get();
+        if (node != null) {
+            enqueue(new ReportEvent(node, type, message));
+        }
+    }
+
+    private static void enqueue(ReportEvent event) {
+        ReportWriter writer = reportWriter;
+        if (writer != null) {
+            long start = System.nanoTime();
+            writer.submit(event);
+            OverheadProfiler.record(OverheadProfiler.Phase.REPORT, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * EventType - Kinds of report events
+     */
+    private enum EventType {
+        START, PASS, FAIL, SKIP, INFO, SCREENSHOT
+    }
+
+    /**
+     * TestNode - Handle to an ExtentTest that is created on the writer thread
+     * Only the writer thread reads or writes the test field
+     */
+    private static class TestNode {
+        private final String name;
+        private final String description;
+        private ExtentTest test;
+
+        private TestNode(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * ReportEvent - A single report update queued by a test thread
+     */
+    private static class ReportEvent {
+        private final TestNode node;
+        private final EventType type;
+        private final String message;
+
+        private ReportEvent(TestNode node, EventType type, String message) {
+            this.node = node;
+            this.type = type;
+            this.message = message;
+        }
+
+        private void apply(ExtentReports reports) {
+            if (type == EventType.START) {
+                node.test = reports.createTest(node.name, node.description);
+                return;
+            }
+            if (node.test == null) {
+                return;
+            }
+            switch (type) {
+                case PASS:
+                    node.test.pass(message);
+                    break;
+                case FAIL:
+                    node.test.fail(message);
+                    break;
+                case SKIP:
+                    node.test.skip(message);
+                    break;
+                case INFO:
+                    node.test.info(message);
+                    break;
+                case SCREENSHOT:
+                    node.test.addScreenCaptureFromPath(message);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * ReportWriter - Single background thread that owns the ExtentReports model
+     * Flushes when batchSize events are pending or flushInterval has elapsed
+     */
+    private static class ReportWriter implements Runnable {
+        private final ExtentReports reports;
+        private final BlockingQueue<ReportEvent> queue;
+        private final BlockingQueue<CountDownLatch> flushWaiters = new ArrayBlockingQueue<>(1024);
+        private final int batchSize;
+        private final long flushIntervalMillis;
+        private final Thread thread;
+
+        private volatile boolean running = true;
+        private volatile boolean flushRequested;
+
+        private ReportWriter(ExtentReports reports, int capacity, int batchSize, long flushIntervalMillis) {
+            this.reports = reports;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.batchSize = batchSize;
+            this.flushIntervalMillis = flushIntervalMillis;
+            this.thread = new Thread(this, "extent-report-writer");
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        /**
+         * Queue an event, blocking the caller only if the queue is full
+         */
+        private void submit(ReportEvent event) {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void requestFlush() {
+            flushRequested = true;
+        }
+
+        private void flushAndWait() {
+            if (!thread.isAlive()) {
+                return;
+            }
+            CountDownLatch latch = new CountDownLatch(1);
+            try {
+                flushWaiters.put(latch);
+                while (thread.isAlive() && !latch.await(100, TimeUnit.MILLISECONDS)) {
+                    // keep waiting while the writer is alive
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void close() {
+            running = false;
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<ReportEvent> batch = new ArrayList<>(batchSize);
+            int pending = 0;
+            long nextFlush = System.currentTimeMillis() + flushIntervalMillis;
+
+            while (running || !queue.isEmpty()) {
+                try {
+                    long waitMillis = Math.max(1, Math.min(nextFlush - System.currentTimeMillis(), 100));
+                    ReportEvent event = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        batch.add(event);
+                        queue.drainTo(batch, batchSize - 1);
+                        pending += applyAll(batch);
+                        batch.clear();
+                    }
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+
+                long now = System.currentTimeMillis();
+                List<CountDownLatch> waiters = new ArrayList<>();
+                flushWaiters.drainTo(waiters);
+                if (!waiters.isEmpty()) {
+                    // Everything queued before a waiter registered must be in the flush
+                    queue.drainTo(batch);
+                    pending += applyAll(batch);
+                    batch.clear();
+                }
+                if (pending >= batchSize
+                        || (pending > 0 && (now >= nextFlush || flushRequested))
+                        || !waiters.isEmpty()) {
+                    flush();
+                    pending = 0;
+                    flushRequested = false;
+                    nextFlush = now + flushIntervalMillis;
+                } else if (now >= nextFlush) {
+                    nextFlush = now + flushIntervalMillis;
+                }
+                waiters.forEach(CountDownLatch::countDown);
+            }
+
+            flush();
+            releaseWaiters();
+        }
+
+        private int applyAll(List<ReportEvent> events) {
+            for (ReportEvent event : events) {
+                try {
+                    event.apply(reports);
+                } catch (Exception e) {
+                    System.err.println("Failed to write report event: " + e.getMessage());
+                }
+            }
+            return events.size();
+        }
+
+        private void flush() {
+            try {
+                reports.flush();
+            } catch (Exception e) {
+                System.err.println("Failed to flush report: " + e.getMessage());
+            }
+        }
+
+        private void releaseWaiters() {
+            CountDownLatch latch;
+            while ((latch = flushWaiters.poll()) != null) {
+                latch.countDown();
+            }
         }
     }
 }
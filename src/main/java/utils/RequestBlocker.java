@@ -0,0 +1,292 @@
+package utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import config.ConfigReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+/**
+ * RequestBlocker - Keeps ads, analytics, fonts and other heavy resources out of UI tests
+ * Blocking uses the DevTools Network.setBlockedURLs command through
+ * ChromiumDriver.executeCdpCommand, which does not depend on a CDP version.
+ * Patterns come from block_url_patterns plus the built-in patterns of each type
+ * in block_resource_types.
+ *
+ * With request_stats_enabled, Chrome's performance log (DevTools Network events)
+ * is drained after every test to count blocked requests by type and transferred
+ * bytes. Blocked resources are never downloaded, so bytes saved are estimated from
+ * sizes seen when the same URLs were loaded, kept in request_size_cache across
+ * runs; a run with request_blocking_enabled=false fills it in.
+ */
+public class RequestBlocker {
+    private static final Map<String, List<String>> TYPE_PATTERNS = new LinkedHashMap<>();
+
+    static {
+        // favicon.ico is left out: it is the session seeding page
+        TYPE_PATTERNS.put("image", Arrays.asList("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*"));
+        TYPE_PATTERNS.put("font", Arrays.asList("*.woff*", "*.ttf*", "*.otf*", "*.eot*",
+                "*fonts.googleapis.com*", "*fonts.gstatic.com*"));
+        TYPE_PATTERNS.put("media", Arrays.asList("*.mp4*", "*.webm*", "*.mp3*", "*.ogg*"));
+        TYPE_PATTERNS.put("stylesheet", Arrays.asList("*.css*"));
+    }
+
+    private static final Gson gson = new Gson();
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder transferredBytes = new LongAdder();
+    private static final LongAdder blocked = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+    private static final LongAdder blockedUnknownSize = new LongAdder();
+    private static final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private static volatile Map<String, Long> knownSizes;
+
+    /**
+     * Add the capabilities request tracking needs
+     *
+     * @param options - Options of the session about to be created
+     */
+    public static void configure(ChromeOptions options) {
+        if (ConfigReader.isRequestStatsEnabled()) {
+            LoggingPreferences logging = new LoggingPreferences();
+            logging.enable(LogType.PERFORMANCE, Level.ALL);
+            options.setCapability("goog:loggingPrefs", logging);
+        }
+    }
+
+    /**
+     * Install the block list in a new session; it stays active for the session's life
+     *
+     * @param driver - Newly created WebDriver session
+     */
+    public static void apply(WebDriver driver) {
+        if (!ConfigReader.isRequestBlockingEnabled() || !(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        List<String> patterns = getBlockedPatterns();
+        if (patterns.isEmpty()) {
+            return;
+        }
+        ChromiumDriver chromium = (ChromiumDriver) driver;
+        chromium.executeCdpCommand("Network.enable", new HashMap<>());
+        chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+    }
+
+    /**
+     * Get the URL patterns blocked in every session
+     *
+     * @return block_url_patterns followed by the patterns of block_resource_types
+     */
+    public static List<String> getBlockedPatterns() {
+        Set<String> patterns = new LinkedHashSet<>(split(ConfigReader.getBlockUrlPatterns()));
+        for (String type : split(ConfigReader.getBlockResourceTypes())) {
+            List<String> typePatterns = TYPE_PATTERNS.get(type.toLowerCase());
+            if (typePatterns == null) {
+                throw new IllegalArgumentException("Unsupported block_resource_types entry '" + type
+                        + "'. Use " + String.join(", ", TYPE_PATTERNS.keySet()) + ".");
+            }
+            patterns.addAll(typePatterns);
+        }
+        return new ArrayList<>(patterns);
+    }
+
+    /**
+     * Drain the session's performance log into the run totals
+     * Called before a session is released or quit
+     *
+     * @param driver - WebDriver session
+     */
+    public static void collect(WebDriver driver) {
+        if (!ConfigReader.isRequestStatsEnabled() || !(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        List<LogEntry> entries;
+        try {
+            entries = driver.manage().logs().get(LogType.PERFORMANCE).getAll();
+        } catch (RuntimeException e) {
+            return;
+        }
+
+        Map<String, Long> sizes = getKnownSizes();
+        Map<String, String> urls = new HashMap<>();
+        for (LogEntry entry : entries) {
+            JsonObject message = JsonParser.parseString(entry.getMessage()).getAsJsonObject()
+                    .getAsJsonObject("message");
+            String method = message.get("method").getAsString();
+            JsonObject params = message.getAsJsonObject("params");
+            switch (method) {
+                case "Network.requestWillBeSent":
+                    urls.put(params.get("requestId").getAsString(),
+                            params.getAsJsonObject("request").get("url").getAsString());
+                    break;
+                case "Network.loadingFinished":
+                    requests.increment();
+                    long length = params.get("encodedDataLength").getAsLong();
+                    transferredBytes.add(length);
+                    String url = urls.get(params.get("requestId").getAsString());
+                    if (url != null && length > 0) {
+                        sizes.put(sizeKey(url), length);
+                    }
+                    break;
+                case "Network.loadingFailed":
+                    if (params.has("blockedReason")) {
+                        blocked.increment();
+                        String type = params.has("type") ? params.get("type").getAsString() : "Other";
+                        blockedByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+                        Long knownSize = sizes.get(sizeKey(urls.getOrDefault(
+                                params.get("requestId").getAsString(), "")));
+                        if (knownSize != null) {
+                            bytesSaved.add(knownSize);
+                        } else {
+                            blockedUnknownSize.increment();
+                        }
+                    } else {
+                        requests.increment();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @return e.g. "Requests: 812 loaded (14.2 MB), 406 blocked, ~9.8 MB saved"
+     */
+    public static String getStats() {
+        return String.format("Requests: %d loaded (%.1f MB), %d blocked %s, ~%.1f MB saved%s",
+                requests.sum(), transferredBytes.sum() / 1e6, blocked.sum(), getBlockedByType(),
+                bytesSaved.sum() / 1e6,
+                blockedUnknownSize.sum() > 0 ? " (" + blockedUnknownSize.sum() + " of unknown size)" : "");
+    }
+
+    /**
+     * @return Blocked request count per DevTools resource type
+     */
+    public static Map<String, Long> getBlockedByType() {
+        Map<String, Long> counts = new TreeMap<>();
+        blockedByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Print and report the run totals and persist the learned resource sizes
+     */
+    public static void report() {
+        if (!ConfigReader.isRequestStatsEnabled() || (requests.sum() == 0 && blocked.sum() == 0)) {
+            return;
+        }
+        System.out.println(getStats());
+        ReportManager.logSummary("Request Blocking", "Requests blocked to speed up page loads", toHtml());
+        saveKnownSizes();
+    }
+
+    private static String toHtml() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("<b>%d requests loaded (%.2f MB), %d blocked, ~%.2f MB saved</b>",
+                requests.sum(), transferredBytes.sum() / 1e6, blocked.sum(), bytesSaved.sum() / 1e6));
+        if (blockedUnknownSize.sum() > 0) {
+            table.append(" (").append(blockedUnknownSize.sum()).append(" blocked requests of unknown size)");
+        }
+        table.append("<table class='table table-sm'><tr><th>Resource type</th><th>Blocked</th></tr>");
+        for (Map.Entry<String, Long> entry : getBlockedByType().entrySet()) {
+            table.append(String.format("<tr><td>%s</td><td>%d</td></tr>", entry.getKey(), entry.getValue()));
+        }
+        table.append("</table>Patterns: <code>").append(String.join(" ", getBlockedPatterns())).append("</code>");
+        return table.toString();
+    }
+
+    private static Map<String, Long> getKnownSizes() {
+        Map<String, Long> sizes = knownSizes;
+        if (sizes == null) {
+            synchronized (RequestBlocker.class) {
+                sizes = knownSizes;
+                if (sizes == null) {
+                    sizes = new ConcurrentHashMap<>();
+                    Path cache = getSizeCachePath();
+                    if (cache != null && Files.isRegularFile(cache)) {
+                        try (Reader reader = Files.newBufferedReader(cache, StandardCharsets.UTF_8)) {
+                            Map<String, Long> saved = gson.fromJson(reader,
+                                    new TypeToken<Map<String, Long>>() { }.getType());
+                            if (saved != null) {
+                                sizes.putAll(saved);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            System.err.println("Ignoring unreadable request size cache " + cache + ": "
+                                    + e.getMessage());
+                        }
+                    }
+                    knownSizes = sizes;
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private static void saveKnownSizes() {
+        Path cache = getSizeCachePath();
+        Map<String, Long> sizes = knownSizes;
+        if (cache == null || sizes == null || sizes.isEmpty()) {
+            return;
+        }
+        try {
+            if (cache.getParent() != null) {
+                Files.createDirectories(cache.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(cache, StandardCharsets.UTF_8)) {
+                gson.toJson(new TreeMap<>(sizes), writer);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write request size cache " + cache + ": " + e.getMessage());
+        }
+    }
+
+    private static Path getSizeCachePath() {
+        String path = ConfigReader.getRequestSizeCache();
+        return path == null || path.trim().isEmpty() ? null : Paths.get(path.trim());
+    }
+
+    /**
+     * Sizes are keyed without the query string, which often carries cache busters
+     */
+    private static String sizeKey(String url) {
+        int query = url.indexOf('?');
+        return query >= 0 ? url.substring(0, query) : url;
+    }
+
+    private static List<String> split(String value) {
+        List<String> parts = new ArrayList<>();
+        if (value != null) {
+            for (String part : value.split(",")) {
+                if (!part.trim().isEmpty()) {
+                    parts.add(part.trim());
+                }
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,238 @@
+package utils;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RequestPlan - Immutable, pre-built request compiled from a Postman collection item
+ * Method, path template, headers, query and body are resolved once at import time;
+ * executing a plan only fills in path variables and body placeholders.
+ * Paths are relative to api_base_url, so plans run against any environment or the local stub.
+ */
+public final class RequestPlan {
+    private final String name;
+    private final String folder;
+    private final String method;
+    private final String pathTemplate;
+    private final Map<String, String> pathDefaults;
+    private final Map<String, String> queryParams;
+    private final Map<String, String> headers;
+    // Body with no placeholders, encoded once; null when the body is a template or absent
+    private final byte[] staticBody;
+    // Alternating literal text and variable names, for bodies with {{placeholders}}
+    private final List<String> bodyParts;
+    private final Map<String, String> variableDefaults;
+
+    RequestPlan(String name, String folder, String method, String pathTemplate, Map<String, String> pathDefaults,
+                Map<String, String> queryParams, Map<String, String> headers, String body,
+                Map<String, String> variableDefaults) {
+        this.name = name;
+        this.folder = folder;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.pathDefaults = Collections.unmodifiableMap(pathDefaults);
+        this.queryParams = Collections.unmodifiableMap(queryParams);
+        this.headers = Collections.unmodifiableMap(headers);
+        this.variableDefaults = variableDefaults;
+
+        List<String> parts = body != null ? PostmanCollection.splitTemplate(body) : null;
+        if (parts != null && parts.size() == 1) {
+            this.staticBody = parts.get(0).getBytes(StandardCharsets.UTF_8);
+            this.bodyParts = null;
+        } else {
+            this.staticBody = null;
+            this.bodyParts = parts != null ? Collections.unmodifiableList(parts) : null;
+        }
+    }
+
+    /**
+     * Send the request with the collection's default variable values
+     *
+     * @return Response
+     */
+    public Response execute() {
+        return execute(Collections.emptyMap());
+    }
+
+    /**
+     * Send the request
+     *
+     * @param variables - Values for path variables and body placeholders; missing ones use the defaults
+     * @return Response
+     */
+    public Response execute(Map<String, String> variables) {
+        RequestSpecification request = ApiClient.given();
+        if (!headers.isEmpty()) {
+            request.headers(headers);
+        }
+        if (!queryParams.isEmpty()) {
+            request.queryParams(queryParams);
+        }
+        for (Map.Entry<String, String> pathVariable : pathDefaults.entrySet()) {
+            request.pathParam(pathVariable.getKey(),
+                    variables.getOrDefault(pathVariable.getKey(), pathVariable.getValue()));
+        }
+        if (staticBody != null) {
+            request.body(staticBody);
+        } else if (bodyParts != null) {
+            request.body(renderBody(variables));
+        }
+        return request.request(method, pathTemplate);
+    }
+
+    /**
+     * Send the request and time it; never throws
+     *
+     * @return Execution with status code and elapsed time
+     */
+    public Execution timedExecute() {
+        long start = System.nanoTime();
+        try {
+            Response response = execute();
+            return new Execution(this, response.getStatusCode(), System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            return new Execution(this, -1, System.nanoTime() - start, e);
+        }
+    }
+
+    /**
+     * Get the body as it would be sent
+     *
+     * @param variables - Values for body placeholders; missing ones use the defaults
+     * @return Body text, or null if the request has no body
+     */
+    public String getBody(Map<String, String> variables) {
+        if (staticBody != null) {
+            return new String(staticBody, StandardCharsets.UTF_8);
+        }
+        return bodyParts != null ? renderBody(variables) : null;
+    }
+
+    private String renderBody(Map<String, String> variables) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < bodyParts.size(); i++) {
+            String part = bodyParts.get(i);
+            if (i % 2 == 0) {
+                body.append(part);
+            } else {
+                String value = variables.containsKey(part) ? variables.get(part) : variableDefaults.get(part);
+                body.append(value != null ? value : "{{" + part + "}}");
+            }
+        }
+        return body.toString();
+    }
+
+    /**
+     * @return Item name, e.g. "Create Cart"
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Folder path in the collection, e.g. "Carts"; empty for top-level items
+     */
+    public String getFolder() {
+        return folder;
+    }
+
+    /**
+     * @return "Folder/Item" name, unique within a collection
+     */
+    public String getQualifiedName() {
+        return folder.isEmpty() ? name : folder + "/" + name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return Path relative to api_base_url, with {variable} path parameters
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * @return Default value of each path parameter in the template
+     */
+    public Map<String, String> getPathDefaults() {
+        return pathDefaults;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public Map<String, String> getQueryParams() {
+        return queryParams;
+    }
+
+    /**
+     * Check if the request only reads data (GET, HEAD, OPTIONS)
+     * Read-only plans are safe to run concurrently with the functional tests
+     */
+    public boolean isReadOnly() {
+        return method.equals("GET") || method.equals("HEAD") || method.equals("OPTIONS");
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pathTemplate + " (" + getQualifiedName() + ")";
+    }
+
+    /**
+     * Execution - Outcome and timing of one plan execution
+     */
+    public static final class Execution {
+        private final RequestPlan plan;
+        private final int statusCode;
+        private final long elapsedNanos;
+        private final Throwable error;
+
+        private Execution(RequestPlan plan, int statusCode, long elapsedNanos, Throwable error) {
+            this.plan = plan;
+            this.statusCode = statusCode;
+            this.elapsedNanos = elapsedNanos;
+            this.error = error;
+        }
+
+        public RequestPlan getPlan() {
+            return plan;
+        }
+
+        /**
+         * @return HTTP status, or -1 if the request failed without a response
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1e6;
+        }
+
+        /**
+         * @return Exception thrown while sending, or null
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null && statusCode >= 200 && statusCode < 300;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s -> %s in %.1f ms", plan,
+                    error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : statusCode,
+                    getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.testng.ITestResult;
+
+/**
+ * ScreenshotPolicy - Decides whether a finished test gets a screenshot
+ */
+public enum ScreenshotPolicy {
+    ALWAYS,
+    FAILURE_ONLY,
+    SAMPLED,
+    NEVER;
+
+    /**
+     * Parse policy from configuration value (e.g. "failure_only")
+     *
+     * @param value - Configured policy name
+     * @return ScreenshotPolicy
+     */
+    public static ScreenshotPolicy fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return FAILURE_ONLY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown screenshot_policy '" + value
+                    + "'. Use always, failure_only, sampled or never.");
+        }
+    }
+
+    /**
+     * Check if a screenshot should be captured for a test result
+     *
+     * @param result - Result of the finished test
+     * @param sampleRate - Fraction of passing tests captured by SAMPLED (0.0 - 1.0)
+     * @return true if a screenshot should be captured
+     */
+    public boolean shouldCapture(ITestResult result, double sampleRate) {
+        boolean failed = result != null && result.getStatus() == ITestResult.FAILURE;
+        switch (this) {
+            case ALWAYS:
+                return true;
+            case FAILURE_ONLY:
+                return failed;
+            case SAMPLED:
+                return failed || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            default:
+                return false;
+        }
+    }
+}
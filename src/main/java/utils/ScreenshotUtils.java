@@ -1,46 +1,159 @@
 package main.java.utils;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.apache.commons.io.FileUtils;
 import config.ConfigReader;
 
 /**
  * ScreenshotUtils - Handles screenshot capture functionality
+ * Only the capture runs on the test thread; encoding and file I/O run on a
+ * background writer pool
  */
 public class ScreenshotUtils {
+    private static final AtomicInteger writerThreadCount = new AtomicInteger();
+    private static final Set<CompletableFuture<String>> pendingWrites = ConcurrentHashMap.newKeySet();
+    private static volatile ExecutorService writerPool;
 
     /**
      * Capture screenshot and save it with timestamp
      *
      * @param driver - WebDriver instance
      * @param testName - Name of the test
-     * @return Path of the saved screenshot
+     * @return Future completing with the path of the saved screenshot, or null if saving failed;
+     *         already failed if the browser could not take the screenshot
      */
-    public static String captureScreenshot(WebDriver driver, String testName) {
+    public static CompletableFuture<String> captureScreenshot(WebDriver driver, String testName) {
+        byte[] png;
         try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            System.err.println("Failed to capture screenshot: " + e.getMessage());
+            // Usually a dead session; the caller decides whether to keep it
+            return CompletableFuture.failedFuture(e);
+        }
 
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String screenshotPath = ConfigReader.getScreenshotPath() + testName + "_" + timestamp + ".png";
+        String format = ConfigReader.getScreenshotFormat();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS"));
+        String screenshotPath = ConfigReader.getScreenshotPath() + testName + "_" + timestamp + "." + format;
 
-            // Create directory if it doesn't exist
-            File screenshotDir = new File(ConfigReader.getScreenshotPath());
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                write(png, Paths.get(screenshotPath), format, ConfigReader.getScreenshotScale());
+                return screenshotPath;
+            } catch (Exception e) {
+                System.err.println("Failed to save screenshot: " + e.getMessage());
+                return null;
             }
+        }, getWriterPool());
+
+        pendingWrites.add(future);
+        future.whenComplete((path, error) -> pendingWrites.remove(future));
+        return future;
+    }
 
-            FileUtils.copyFile(srcFile, new File(screenshotPath));
-            return screenshotPath;
+    /**
+     * Wait for all queued screenshot writes to finish
+     *
+     * @param timeoutSeconds - Maximum time to wait
+     */
+    public static void awaitPendingWrites(long timeoutSeconds) {
+        CompletableFuture<?>[] pending = pendingWrites.toArray(new CompletableFuture<?>[0]);
+        if (pending.length == 0) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(pending).get(timeoutSeconds, TimeUnit.SECONDS);
         } catch (Exception e) {
-            System.err.println("Failed to capture screenshot: " + e.getMessage());
-            return null;
+            System.err.println("Screenshot writes did not finish in time: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write PNG bytes to disk, re-encoding only when a different format or scale is configured
+     */
+    private static void write(byte[] png, Path target, String format, double scale) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.write(target, encode(png, format, scale));
+    }
+
+    /**
+     * Convert a PNG screenshot to the configured format and scale
+     *
+     * @param png - Screenshot as returned by the driver
+     * @param format - Target image format, e.g. "png" or "jpg"
+     * @param scale - Scale factor; 1.0 or more keeps the original size
+     * @return Encoded image; the input itself when it is already a full-size PNG
+     * @throws IOException if the image cannot be decoded or encoded
+     */
+    public static byte[] encode(byte[] png, String format, double scale) throws IOException {
+        if ("png".equalsIgnoreCase(format) && scale >= 1.0) {
+            return png;
+        }
+
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * Math.min(scale, 1.0)));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * Math.min(scale, 1.0)));
+
+        // JPEG has no alpha channel
+        int imageType = "png".equalsIgnoreCase(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage output = new BufferedImage(width, height, imageType);
+        Graphics2D graphics = output.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(png.length);
+        if (!ImageIO.write(output, format, encoded)) {
+            throw new IOException("No image writer available for format '" + format + "'");
+        }
+        return encoded.toByteArray();
+    }
+
+    /**
+     * Get the writer pool, creating it on first use
+     * A full queue makes the capturing thread write the file itself instead of dropping it
+     */
+    private static ExecutorService getWriterPool() {
+        if (writerPool == null) {
+            synchronized (ScreenshotUtils.class) {
+                if (writerPool == null) {
+                    int threads = ConfigReader.getScreenshotWriterThreads();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256), runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "screenshot-writer-" + writerThreadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    pool.allowCoreThreadTimeOut(true);
+                    writerPool = pool;
+                }
+            }
         }
+        return writerPool;
     }
 }
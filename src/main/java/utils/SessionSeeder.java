@@ -0,0 +1,236 @@
+package utils;
+
+import config.ConfigReader;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import pages.HomePage;
+import pages.LoginPage;
+
+/**
+ * SessionSeeder - Puts UI tests into a logged-in state without the login form
+ * Each user is authenticated once per TTL by posting the storefront's login form
+ * over HTTP; the resulting cookies are cached as a SessionSnapshot and injected
+ * into every WebDriver session that needs that user. If the HTTP login does not
+ * produce a session, the user logs in once through LoginPage and the browser's
+ * session is captured instead. With session_seeding_enabled=false every call
+ * logs in through the login form and nothing is cached.
+ */
+public class SessionSeeder {
+    private static final String LOGIN_PATH = "login";
+    private static final String SESSION_COOKIE = "sessionid";
+    private static final Pattern CSRF_TOKEN =
+            Pattern.compile("name=[\"']csrfmiddlewaretoken[\"']\\s+value=[\"']([^\"']+)[\"']");
+
+    private static final Map<String, SessionSnapshot> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, Object> userLocks = new ConcurrentHashMap<>();
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger apiLogins = new AtomicInteger();
+    private static final AtomicInteger uiLogins = new AtomicInteger();
+
+    /**
+     * Inject a logged-in session for a user into the driver
+     * The driver is left on the seed page; navigate to the test's starting page next
+     *
+     * @param driver - New or pooled WebDriver session
+     * @param email - User email
+     * @param password - User password
+     */
+    public static void seed(WebDriver driver, String email, String password) {
+        if (!ConfigReader.isSessionSeedingEnabled()) {
+            uiLogins.incrementAndGet();
+            loginThroughUi(driver, email, password);
+            return;
+        }
+        SessionSnapshot cached = sessions.get(email);
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            cached.applyTo(driver, getSeedUrl());
+            return;
+        }
+        // One login per user at a time; other threads wait for it and reuse the result
+        synchronized (userLocks.computeIfAbsent(email, key -> new Object())) {
+            cached = sessions.get(email);
+            if (cached != null && !cached.isExpired()) {
+                hits.incrementAndGet();
+                cached.applyTo(driver, getSeedUrl());
+                return;
+            }
+            SessionSnapshot snapshot = authenticate(driver, email, password);
+            sessions.put(email, snapshot);
+        }
+    }
+
+    /**
+     * Inject a new session that is not shared with other tests
+     * For tests that end the session (logout), which would otherwise invalidate
+     * the cached session for every test seeded from it
+     *
+     * @param driver - New or pooled WebDriver session
+     * @param email - User email
+     * @param password - User password
+     */
+    public static void seedUncached(WebDriver driver, String email, String password) {
+        authenticate(driver, email, password);
+    }
+
+    /**
+     * Drop a user's cached session, e.g. after a test logged it out server-side
+     *
+     * @param email - User email
+     */
+    public static void invalidate(String email) {
+        sessions.remove(email);
+    }
+
+    /**
+     * Drop all cached sessions
+     */
+    public static void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * @return e.g. "Session seeding: 12 cached, 1 API logins, 0 UI logins"
+     */
+    public static String getStats() {
+        return "Session seeding: " + hits.get() + " cached, " + apiLogins.get() + " API logins, "
+                + uiLogins.get() + " UI logins";
+    }
+
+    /**
+     * Log in once and leave the driver in the new session
+     */
+    private static SessionSnapshot authenticate(WebDriver driver, String email, String password) {
+        SessionSnapshot snapshot = ConfigReader.isSessionSeedingEnabled() ? loginOverHttp(email, password) : null;
+        if (snapshot != null) {
+            apiLogins.incrementAndGet();
+            snapshot.applyTo(driver, getSeedUrl());
+            return snapshot;
+        }
+        // The driver ends up logged in as a side effect of capturing the session
+        uiLogins.incrementAndGet();
+        return loginThroughUi(driver, email, password);
+    }
+
+    /**
+     * Authenticate by posting the login form with its CSRF token
+     *
+     * @return SessionSnapshot, or null if no session cookie was issued
+     */
+    private static SessionSnapshot loginOverHttp(String email, String password) {
+        URI loginUri = URI.create(ConfigReader.getBaseUrl()).resolve(LOGIN_PATH);
+        CookieManager cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(cookieManager)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(ConfigReader.getApiConnectTimeout()))
+                .build();
+        Duration timeout = Duration.ofSeconds(ConfigReader.getPageLoadTimeout());
+
+        try {
+            HttpResponse<String> loginPage = client.send(HttpRequest.newBuilder(loginUri).timeout(timeout).GET()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            Matcher token = CSRF_TOKEN.matcher(loginPage.body());
+            if (!token.find()) {
+                System.err.println("Session seeding: no CSRF token on " + loginUri + ", falling back to UI login");
+                return null;
+            }
+
+            Map<String, String> form = new LinkedHashMap<>();
+            form.put("csrfmiddlewaretoken", token.group(1));
+            form.put("email", email);
+            form.put("password", password);
+            HttpResponse<Void> login = client.send(HttpRequest.newBuilder(loginUri).timeout(timeout)
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .header("Referer", loginUri.toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form)))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+
+            List<HttpCookie> httpCookies = cookieManager.getCookieStore().get(loginUri);
+            boolean authenticated = httpCookies.stream().anyMatch(c -> c.getName().equals(SESSION_COOKIE));
+            if (!authenticated) {
+                System.err.println("Session seeding: login for " + email + " returned " + login.statusCode()
+                        + " without a session cookie, falling back to UI login");
+                return null;
+            }
+            return new SessionSnapshot(email, ConfigReader.getBaseUrl(), toSeleniumCookies(httpCookies),
+                    Collections.emptyMap(), Collections.emptyMap(), getTtlMillis());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Session seeding: HTTP login failed (" + e.getMessage() + "), falling back to UI login");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Log in through the login page once and capture the resulting session
+     */
+    private static SessionSnapshot loginThroughUi(WebDriver driver, String email, String password) {
+        driver.navigate().to(URI.create(ConfigReader.getBaseUrl()).resolve(LOGIN_PATH).toString());
+        new LoginPage(driver).login(email, password);
+        if (!new HomePage(driver).isUserLoggedIn()) {
+            throw new IllegalStateException("Session seeding: UI login failed for " + email);
+        }
+        return SessionSnapshot.capture(driver, email, ConfigReader.getBaseUrl(), getTtlMillis());
+    }
+
+    private static List<Cookie> toSeleniumCookies(List<HttpCookie> httpCookies) {
+        List<Cookie> cookies = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (HttpCookie httpCookie : httpCookies) {
+            Cookie.Builder builder = new Cookie.Builder(httpCookie.getName(), httpCookie.getValue())
+                    .path(httpCookie.getPath() != null ? httpCookie.getPath() : "/")
+                    .isSecure(httpCookie.getSecure())
+                    .isHttpOnly(httpCookie.isHttpOnly());
+            if (httpCookie.getMaxAge() > 0) {
+                builder.expiresOn(new Date(now + TimeUnit.SECONDS.toMillis(httpCookie.getMaxAge())));
+            }
+            cookies.add(builder.build());
+        }
+        return cookies;
+    }
+
+    private static String encodeForm(Map<String, String> form) {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> field : form.entrySet()) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8));
+        }
+        return body.toString();
+    }
+
+    private static String getSeedUrl() {
+        return URI.create(ConfigReader.getBaseUrl()).resolve(ConfigReader.getSessionSeedPath()).toString();
+    }
+
+    private static long getTtlMillis() {
+        return TimeUnit.MINUTES.toMillis(ConfigReader.getSessionTtl());
+    }
+}
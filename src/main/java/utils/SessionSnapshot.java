@@ -0,0 +1,157 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionSnapshot - Immutable copy of an authenticated browser session
+ * Holds the cookies and web storage of one origin, so a fresh or pooled
+ * WebDriver session can be put in the logged-in state without the login form.
+ */
+public final class SessionSnapshot {
+    private static final String READ_STORAGE_SCRIPT =
+            "function read(s) { var d = {}; try { for (var i = 0; i < s.length; i++) {"
+            + " var k = s.key(i); d[k] = s.getItem(k); } } catch (e) {} return d; }"
+            + "return {local: read(window.localStorage), session: read(window.sessionStorage)};";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "function write(s, d) { try { for (var k in d) { s.setItem(k, d[k]); } } catch (e) {} }"
+            + "write(window.localStorage, arguments[0]); write(window.sessionStorage, arguments[1]);";
+
+    private final String user;
+    private final String origin;
+    private final List<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long createdAtMillis;
+    private final long expiresAtMillis;
+
+    SessionSnapshot(String user, String origin, List<Cookie> cookies, Map<String, String> localStorage,
+                    Map<String, String> sessionStorage, long ttlMillis) {
+        this.user = user;
+        this.origin = origin;
+        this.cookies = Collections.unmodifiableList(new ArrayList<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new LinkedHashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new LinkedHashMap<>(sessionStorage));
+        this.createdAtMillis = System.currentTimeMillis();
+
+        // A snapshot is only as fresh as its shortest-lived cookie
+        long expiresAt = createdAtMillis + ttlMillis;
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null) {
+                expiresAt = Math.min(expiresAt, cookie.getExpiry().getTime());
+            }
+        }
+        this.expiresAtMillis = expiresAt;
+    }
+
+    /**
+     * Capture the session of the page the driver is on
+     *
+     * @param driver - WebDriver on a page of the application's origin
+     * @param user - User the session belongs to
+     * @param origin - Application origin, e.g. https://automationexercise.com/
+     * @param ttlMillis - Maximum time the snapshot may be reused
+     * @return SessionSnapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver, String user, String origin, long ttlMillis) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(user, origin, new ArrayList<>(driver.manage().getCookies()),
+                toStrings((Map<String, Object>) storage.get("local")),
+                toStrings((Map<String, Object>) storage.get("session")), ttlMillis);
+    }
+
+    /**
+     * Put a driver into this session
+     * Cookies can only be set for the current origin, so the driver first opens
+     * a lightweight page of the application instead of a full storefront page.
+     * The caller navigates to the real starting page afterwards.
+     *
+     * @param driver - New or freshly reset WebDriver session
+     * @param seedUrl - Same-origin URL that is cheap to load
+     */
+    public void applyTo(WebDriver driver, String seedUrl) {
+        driver.navigate().to(seedUrl);
+        long now = System.currentTimeMillis();
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().getTime() <= now) {
+                continue;
+            }
+            // Host-only cookie for the current origin; a captured domain such as
+            // ".example.com" is rejected by some drivers when set from a subpage
+            Cookie.Builder builder = new Cookie.Builder(cookie.getName(), cookie.getValue())
+                    .path(cookie.getPath() != null ? cookie.getPath() : "/")
+                    .isSecure(cookie.isSecure())
+                    .isHttpOnly(cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                builder.expiresOn(cookie.getExpiry());
+            }
+            if (cookie.getSameSite() != null) {
+                builder.sameSite(cookie.getSameSite());
+            }
+            driver.manage().addCookie(builder.build());
+        }
+        if (!localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+        }
+    }
+
+    /**
+     * Check if the snapshot is past its TTL or its earliest cookie expiry
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public List<Cookie> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionSnapshot[" + user + " @ " + origin + ", cookies=" + cookies.size()
+                + ", expires=" + new Date(expiresAtMillis) + "]";
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> values) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        if (values != null) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                strings.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,316 @@
+package utils;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import config.ResourceCache;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * StreamingDataSource - Lazily reads test data rows for TestNG data providers
+ * Only the current row is held in memory, so datasets of any size can be used.
+ * That holds for sequential data providers only: TestNG materializes every row of
+ * a parallel = true provider before dispatching them.
+ */
+public class StreamingDataSource {
+
+    /**
+     * Stream the objects of a top-level JSON array as rows
+     *
+     * @param jsonFilePath - Classpath resource name or path of the JSON file
+     * @param dataKey - Key of the test data array
+     * @param fields - Fields to put in each row, in parameter order.
+     *                 When empty, each row holds a single TestDataRecord
+     * @return Lazy iterator of rows
+     */
+    public static Iterator<Object[]> jsonRows(String jsonFilePath, String dataKey, String... fields) {
+        try {
+            return new JsonRowIterator(openReader(jsonFilePath), dataKey, fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening test data file " + jsonFilePath, e);
+        }
+    }
+
+    /**
+     * Stream the lines of a CSV file with a header row as rows
+     *
+     * @param csvFilePath - Classpath resource name or path of the CSV file
+     * @param columns - Columns to put in each row, in parameter order. When empty, all columns
+     * @return Lazy iterator of rows
+     */
+    public static Iterator<Object[]> csvRows(String csvFilePath, String... columns) {
+        try {
+            return new CsvRowIterator(openReader(csvFilePath), columns);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening test data file " + csvFilePath, e);
+        }
+    }
+
+    /**
+     * Open a resource for streaming; large datasets bypass the resource cache
+     */
+    private static BufferedReader openReader(String resource) {
+        return new BufferedReader(new InputStreamReader(ResourceCache.openUncached(resource), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted fields and "" escapes
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            System.err.println("Error closing test data file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * JsonRowIterator - Walks one array of a JSON document with a JsonReader
+     */
+    private static class JsonRowIterator implements Iterator<Object[]> {
+        private final JsonReader reader;
+        private final String[] fields;
+        private final Map<String, Integer> fieldIndex = new HashMap<>();
+        private boolean closed;
+
+        private JsonRowIterator(BufferedReader source, String dataKey, String[] fields) throws IOException {
+            this.reader = new JsonReader(source);
+            this.fields = fields;
+            for (int i = 0; i < fields.length; i++) {
+                fieldIndex.put(fields[i], i);
+            }
+
+            try {
+                if (!seekArray(dataKey)) {
+                    close();
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private boolean seekArray(String dataKey) throws IOException {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(dataKey) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    return true;
+                }
+                reader.skipValue();
+            }
+            return false;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (reader.hasNext()) {
+                    return true;
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return fields.length == 0 ? new Object[]{readRecord()} : readRow();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Object[] readRow() throws IOException {
+            Object[] row = new Object[fields.length];
+            reader.beginObject();
+            while (reader.hasNext()) {
+                Integer index = fieldIndex.get(reader.nextName());
+                if (index != null) {
+                    row[index] = readValue();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return row;
+        }
+
+        private TestDataRecord readRecord() throws IOException {
+            Map<String, String> values = new LinkedHashMap<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                Object value = readValue();
+                values.put(name, value != null ? value.toString() : null);
+            }
+            reader.endObject();
+            return new TestDataRecord(values);
+        }
+
+        /**
+         * Read a value with a Java type TestNG can bind to test method parameters
+         */
+        private Object readValue() throws IOException {
+            switch (reader.peek()) {
+                case NULL:
+                    reader.nextNull();
+                    return null;
+                case BOOLEAN:
+                    return reader.nextBoolean();
+                case NUMBER:
+                    String number = reader.nextString();
+                    try {
+                        long value = Long.parseLong(number);
+                        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : value;
+                    } catch (NumberFormatException e) {
+                        return Double.parseDouble(number);
+                    }
+                case STRING:
+                    return reader.nextString();
+                default:
+                    return JsonParser.parseReader(reader);
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(reader);
+            }
+        }
+    }
+
+    /**
+     * CsvRowIterator - Reads a CSV file one line at a time
+     */
+    private static class CsvRowIterator implements Iterator<Object[]> {
+        private final BufferedReader reader;
+        private final int[] columnIndexes;
+        private String nextLine;
+        private boolean closed;
+
+        private CsvRowIterator(BufferedReader reader, String[] columns) throws IOException {
+            this.reader = reader;
+            try {
+                String header = reader.readLine();
+                List<String> headerColumns = header != null ? parseCsvLine(header) : new ArrayList<>();
+                this.columnIndexes = resolveColumns(headerColumns, columns);
+                advance();
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private int[] resolveColumns(List<String> header, String[] columns) {
+            if (columns.length == 0) {
+                int[] all = new int[header.size()];
+                Arrays.setAll(all, i -> i);
+                return all;
+            }
+            int[] indexes = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                indexes[i] = header.indexOf(columns[i]);
+                if (indexes[i] < 0) {
+                    throw new IllegalArgumentException("CSV column '" + columns[i] + "' not found in " + header);
+                }
+            }
+            return indexes;
+        }
+
+        private void advance() throws IOException {
+            do {
+                nextLine = reader.readLine();
+            } while (nextLine != null && nextLine.trim().isEmpty());
+            if (nextLine == null) {
+                close();
+            }
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> values = parseCsvLine(nextLine);
+            Object[] row = new Object[columnIndexes.length];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                row[i] = columnIndexes[i] < values.size() ? values.get(columnIndexes[i]) : null;
+            }
+            try {
+                advance();
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+            return row;
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                nextLine = null;
+                closeQuietly(reader);
+            }
+        }
+    }
+}
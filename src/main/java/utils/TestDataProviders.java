@@ -0,0 +1,33 @@
+package utils;
+
+import java.util.Iterator;
+import org.testng.annotations.DataProvider;
+
+/**
+ * TestDataProviders - Shared TestNG data providers backed by streamed test data
+ * Rows are read lazily, one at a time. The providers are sequential on purpose:
+ * TestNG reads every row of a parallel provider up front, which defeats streaming.
+ * Tests still run in parallel with other methods under parallel_mode.
+ */
+public class TestDataProviders {
+
+    /**
+     * Login credentials with the expected outcome
+     *
+     * @return Rows of (email, password, expectedResult)
+     */
+    @DataProvider(name = "loginData")
+    public static Iterator<Object[]> loginData() {
+        return TestDataUtils.streamJsonRows("loginTestData", "email", "password", "expectedResult");
+    }
+
+    /**
+     * Product names with a matching search keyword
+     *
+     * @return Rows of (productName, searchKeyword)
+     */
+    @DataProvider(name = "productData")
+    public static Iterator<Object[]> productData() {
+        return TestDataUtils.streamJsonRows("productTestData", "productName", "searchKeyword");
+    }
+}
@@ -0,0 +1,89 @@
+package utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TestDataRecord - Immutable view of one test data object
+ * Field values are converted once when the data file is parsed
+ */
+public final class TestDataRecord {
+    private final Map<String, String> fields;
+
+    TestDataRecord(Map<String, String> fields) {
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+    }
+
+    /**
+     * Check if the record has a field
+     *
+     * @param fieldKey - Field name
+     * @return true if the field is present
+     */
+    public boolean has(String fieldKey) {
+        return fields.containsKey(fieldKey);
+    }
+
+    /**
+     * Get field value as string
+     *
+     * @param fieldKey - Field name
+     * @return Field value, or null if the field is missing
+     */
+    public String getString(String fieldKey) {
+        return fields.get(fieldKey);
+    }
+
+    /**
+     * Get field value as int
+     *
+     * @param fieldKey - Field name
+     * @return Field value
+     */
+    public int getInt(String fieldKey) {
+        return Integer.parseInt(require(fieldKey));
+    }
+
+    /**
+     * Get field value as double
+     *
+     * @param fieldKey - Field name
+     * @return Field value
+     */
+    public double getDouble(String fieldKey) {
+        return Double.parseDouble(require(fieldKey));
+    }
+
+    /**
+     * Get field value as boolean
+     *
+     * @param fieldKey - Field name
+     * @return Field value
+     */
+    public boolean getBoolean(String fieldKey) {
+        return Boolean.parseBoolean(require(fieldKey));
+    }
+
+    /**
+     * Get all fields
+     *
+     * @return Unmodifiable map of field names to values
+     */
+    public Map<String, String> asMap() {
+        return fields;
+    }
+
+    private String require(String fieldKey) {
+        String value = fields.get(fieldKey);
+        if (value == null) {
+            throw new IllegalArgumentException("Test data field '" + fieldKey + "' not found in " + fields.keySet());
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return fields.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import config.ResourceCache;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TestDataStore - Parsed-once, indexed snapshot of a JSON test data file
+ * Each top-level array becomes a dataset of TestDataRecords addressable by index.
+ * A snapshot is immutable; the file is re-parsed only when its modification time changes.
+ * Resources packaged in a jar never change and are parsed exactly once.
+ */
+public final class TestDataStore {
+    private static final FileTime PACKAGED = FileTime.fromMillis(0);
+    private static final Map<String, TestDataStore> stores = new ConcurrentHashMap<>();
+    // Backing file per resource name, resolved once; empty for packaged resources
+    private static final Map<String, Optional<Path>> files = new ConcurrentHashMap<>();
+
+    private final String resource;
+    private final FileTime modifiedTime;
+    private final Map<String, List<TestDataRecord>> datasets;
+
+    private TestDataStore(String resource, FileTime modifiedTime, Map<String, List<TestDataRecord>> datasets) {
+        this.resource = resource;
+        this.modifiedTime = modifiedTime;
+        this.datasets = datasets;
+    }
+
+    /**
+     * Get the current snapshot of a data file, parsing it only if it is new or changed
+     *
+     * @param jsonResource - Classpath resource name or path of the JSON file
+     * @return TestDataStore snapshot
+     */
+    public static TestDataStore forFile(String jsonResource) {
+        FileTime currentTime = lastModified(jsonResource);
+
+        TestDataStore store = stores.get(jsonResource);
+        if (store != null && store.modifiedTime.equals(currentTime)) {
+            return store;
+        }
+        return stores.compute(jsonResource, (name, existing) -> {
+            if (existing != null && existing.modifiedTime.equals(currentTime)) {
+                return existing;
+            }
+            ResourceCache.invalidate(name);
+            return parse(name, currentTime);
+        });
+    }
+
+    /**
+     * Get a record by dataset key and index
+     *
+     * @param dataKey - Key of the test data array
+     * @param index - Index of the data object
+     * @return TestDataRecord, or null if the dataset or index does not exist
+     */
+    public TestDataRecord getRecord(String dataKey, int index) {
+        List<TestDataRecord> records = datasets.get(dataKey);
+        if (records == null || index < 0 || index >= records.size()) {
+            return null;
+        }
+        return records.get(index);
+    }
+
+    /**
+     * Get all records of a dataset
+     *
+     * @param dataKey - Key of the test data array
+     * @return Unmodifiable list of records (empty if the dataset does not exist)
+     */
+    public List<TestDataRecord> getRecords(String dataKey) {
+        return datasets.getOrDefault(dataKey, Collections.emptyList());
+    }
+
+    /**
+     * Get number of records in a dataset
+     *
+     * @param dataKey - Key of the test data array
+     * @return Record count
+     */
+    public int size(String dataKey) {
+        return getRecords(dataKey).size();
+    }
+
+    /**
+     * Get names of all datasets in the file
+     *
+     * @return Dataset keys
+     */
+    public Set<String> getDatasetNames() {
+        return datasets.keySet();
+    }
+
+    /**
+     * Get the resource this snapshot was parsed from
+     *
+     * @return Resource name
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    private static TestDataStore parse(String resource, FileTime modifiedTime) {
+        try (Reader reader = new InputStreamReader(ResourceCache.open(resource), StandardCharsets.UTF_8)) {
+            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+
+            Map<String, List<TestDataRecord>> datasets = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : root.entrySet()) {
+                if (entry.getValue().isJsonArray()) {
+                    datasets.put(entry.getKey(), index(entry.getValue().getAsJsonArray()));
+                }
+            }
+            return new TestDataStore(resource, modifiedTime, Collections.unmodifiableMap(datasets));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Error reading test data from " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<TestDataRecord> index(JsonArray array) {
+        List<TestDataRecord> records = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            if (element.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+                    fields.put(field.getKey(), toText(field.getValue()));
+                }
+            }
+            records.add(new TestDataRecord(fields));
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * Primitives keep their plain value; nested arrays and objects keep their JSON text
+     */
+    private static String toText(JsonElement value) {
+        if (value.isJsonNull()) {
+            return null;
+        }
+        return value.isJsonPrimitive() ? value.getAsString() : value.toString();
+    }
+
+    /**
+     * Only the resolved file is stat'ed; resolving the resource runs once per name
+     */
+    private static FileTime lastModified(String resource) {
+        Optional<Path> file = files.computeIfAbsent(resource, TestDataStore::resolve);
+        if (!file.isPresent()) {
+            return PACKAGED;
+        }
+        try {
+            return Files.getLastModifiedTime(file.get());
+        } catch (IOException e) {
+            // Resolve again next time, the file may have moved
+            files.remove(resource);
+            throw new IllegalStateException("Test data file not found: " + file.get(), e);
+        }
+    }
+
+    private static Optional<Path> resolve(String resource) {
+        Path file = ResourceCache.getFile(resource);
+        if (file == null && !ResourceCache.exists(resource)) {
+            throw new IllegalStateException("Test data file not found: " + resource);
+        }
+        return Optional.ofNullable(file);
+    }
+}
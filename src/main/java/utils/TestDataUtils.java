@@ -1,15 +1,14 @@
 package main.java.utils;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.io.FileReader;
+import java.util.Iterator;
 
 /**
  * TestDataUtils - Provides utilities to read test data from JSON file
+ * Lookups are served from an indexed TestDataStore, so the file is parsed once
  */
 public class TestDataUtils {
+    // Loaded from the classpath, so it works from any working directory and from a jar
+    private static final String TEST_DATA_FILE = "testdata.json";
 
     /**
      * Get test data from JSON file
@@ -22,13 +21,9 @@ public class TestDataUtils {
      */
     public static String getTestDataFromJson(String jsonFilePath, String dataKey, int index, String fieldKey) {
         try {
-            JsonElement jsonElement = JsonParser.parseReader(new FileReader(jsonFilePath));
-            JsonObject jsonObject = jsonElement.getAsJsonObject();
-            JsonArray dataArray = jsonObject.getAsJsonArray(dataKey);
-
-            if (index < dataArray.size()) {
-                JsonObject dataObject = dataArray.get(index).getAsJsonObject();
-                return dataObject.get(fieldKey).getAsString();
+            TestDataRecord record = getRecord(jsonFilePath, dataKey, index);
+            if (record != null) {
+                return record.getString(fieldKey);
             }
         } catch (Exception e) {
             System.err.println("Error reading test data from JSON: " + e.getMessage());
@@ -36,6 +31,63 @@ public class TestDataUtils {
         return null;
     }
 
+    /**
+     * Get a whole test data record from JSON file
+     *
+     * @param jsonFilePath - Path to JSON file
+     * @param dataKey - Key for the test data array
+     * @param index - Index of the data object
+     * @return TestDataRecord, or null if the index does not exist
+     */
+    public static TestDataRecord getRecord(String jsonFilePath, String dataKey, int index) {
+        return TestDataStore.forFile(jsonFilePath).getRecord(dataKey, index);
+    }
+
+    /**
+     * Get a test data record from the default test data file
+     *
+     * @param dataKey - Key for the test data array
+     * @param index - Index of the data object
+     * @return TestDataRecord, or null if the index does not exist
+     */
+    public static TestDataRecord getRecord(String dataKey, int index) {
+        return getRecord(TEST_DATA_FILE, dataKey, index);
+    }
+
+    /**
+     * Stream rows of a JSON test data array for a TestNG data provider
+     *
+     * @param jsonFilePath - Path to JSON file
+     * @param dataKey - Key for the test data array
+     * @param fields - Fields passed to the test method, in parameter order
+     * @return Lazy iterator of rows
+     */
+    public static Iterator<Object[]> streamJsonRows(String jsonFilePath, String dataKey, String... fields) {
+        return StreamingDataSource.jsonRows(jsonFilePath, dataKey, fields);
+    }
+
+    /**
+     * Stream rows of the default test data file for a TestNG data provider
+     *
+     * @param dataKey - Key for the test data array
+     * @param fields - Fields passed to the test method, in parameter order
+     * @return Lazy iterator of rows
+     */
+    public static Iterator<Object[]> streamJsonRows(String dataKey, String... fields) {
+        return streamJsonRows(TEST_DATA_FILE, dataKey, fields);
+    }
+
+    /**
+     * Stream rows of a CSV file (first line is the header) for a TestNG data provider
+     *
+     * @param csvFilePath - Path to CSV file
+     * @param columns - Columns passed to the test method, in parameter order
+     * @return Lazy iterator of rows
+     */
+    public static Iterator<Object[]> streamCsvRows(String csvFilePath, String... columns) {
+        return StreamingDataSource.csvRows(csvFilePath, columns);
+    }
+
     /**
      * Get login test data
      *
@@ -44,7 +96,7 @@ public class TestDataUtils {
      * @return Field value
      */
     public static String getLoginTestData(int index, String fieldKey) {
-        return getTestDataFromJson("src/test/resources/testdata.json", "loginTestData", index, fieldKey);
+        return getTestDataFromJson(TEST_DATA_FILE, "loginTestData", index, fieldKey);
     }
 
     /**
@@ -55,7 +107,7 @@ public class TestDataUtils {
      * @return Field value
      */
     public static String getProductTestData(int index, String fieldKey) {
-        return getTestDataFromJson("src/test/resources/testdata.json", "productTestData", index, fieldKey);
+        return getTestDataFromJson(TEST_DATA_FILE, "productTestData", index, fieldKey);
     }
 
     /**
@@ -66,6 +118,6 @@ public class TestDataUtils {
      * @return Field value
      */
     public static String getCartTestData(int index, String fieldKey) {
-        return getTestDataFromJson("src/test/resources/testdata.json", "cartTestData", index, fieldKey);
+        return getTestDataFromJson(TEST_DATA_FILE, "cartTestData", index, fieldKey);
     }
 }
@@ -0,0 +1,198 @@
+package utils;
+
+import config.ConfigReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * WaitEngine - Polls conditions with adaptive intervals and keeps per-condition timing
+ * Drivers run without an implicit wait, so every lookup returns at once and all
+ * waiting happens here. Polling starts at wait_poll_min_ms, so a condition that is
+ * already true (or a negative check that is already false) costs one round-trip,
+ * and backs off by half each poll up to wait_poll_max_ms so long waits do not
+ * flood the driver.
+ *
+ * Every wait is recorded under its condition name (e.g. "visible HomePage.logoutLink")
+ * and reported at the end of the run.
+ */
+public final class WaitEngine {
+    private static final Map<String, ConditionStats> stats = new ConcurrentHashMap<>();
+
+    private WaitEngine() {
+    }
+
+    /**
+     * Wait until a condition returns a non-null, non-false value
+     * NotFoundException and StaleElementReferenceException count as "not yet"
+     *
+     * @param name - Condition name used for stats and the timeout message
+     * @param timeout - Maximum time to wait
+     * @param condition - Condition to poll
+     * @return The condition's value
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public static <T> T until(String name, Duration timeout, Supplier<T> condition) {
+        T value = poll(name, timeout, condition);
+        if (value == null) {
+            throw new TimeoutException("Timed out after " + timeout.toMillis() + " ms waiting for " + name);
+        }
+        return value;
+    }
+
+    /**
+     * Wait until a condition holds, without failing on timeout
+     *
+     * @param name - Condition name used for stats
+     * @param timeout - Maximum time to wait; Duration.ZERO checks once
+     * @param condition - Condition to poll
+     * @return true if the condition held within the timeout
+     */
+    public static boolean within(String name, Duration timeout, Supplier<Boolean> condition) {
+        return poll(name, timeout, condition) != null;
+    }
+
+    private static <T> T poll(String name, Duration timeout, Supplier<T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = TimeUnit.MILLISECONDS.toNanos(ConfigReader.getWaitPollMin());
+        long maxInterval = TimeUnit.MILLISECONDS.toNanos(ConfigReader.getWaitPollMax());
+        ConditionStats conditionStats = stats.computeIfAbsent(name, ConditionStats::new);
+        int polls = 0;
+
+        while (true) {
+            polls++;
+            T value = evaluate(condition);
+            long now = System.nanoTime();
+            if (value != null && !Boolean.FALSE.equals(value)) {
+                conditionStats.recordMet(now - start, polls);
+                OverheadProfiler.record(OverheadProfiler.Phase.WAITS, now - start);
+                return value;
+            }
+            if (now >= deadline) {
+                conditionStats.recordTimeout(now - start, polls);
+                OverheadProfiler.record(OverheadProfiler.Phase.WAITS, now - start);
+                return null;
+            }
+            LockSupport.parkNanos(Math.min(interval, deadline - now));
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                long elapsed = System.nanoTime() - start;
+                conditionStats.recordTimeout(elapsed, polls);
+                OverheadProfiler.record(OverheadProfiler.Phase.WAITS, elapsed);
+                return null;
+            }
+            interval = Math.min(maxInterval, interval + interval / 2);
+        }
+    }
+
+    private static <T> T evaluate(Supplier<T> condition) {
+        try {
+            return condition.get();
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Stats of every condition waited on, slowest p95 first
+     */
+    public static List<ConditionStats> getStats() {
+        List<ConditionStats> all = new ArrayList<>(stats.values());
+        all.sort(Comparator.comparingLong((ConditionStats s) -> s.getLatency().getValueAtPercentile(95)).reversed()
+                .thenComparing(ConditionStats::getName));
+        return all;
+    }
+
+    /**
+     * Print and report per-condition wait times for this run
+     */
+    public static void report() {
+        List<ConditionStats> all = getStats();
+        if (all.isEmpty()) {
+            return;
+        }
+        System.out.println("Wait report (slowest p95 first):");
+        for (ConditionStats conditionStats : all) {
+            System.out.println(String.format("  %-50s %s polls=%d timeouts=%d", conditionStats.getName(),
+                    conditionStats.getLatency(), conditionStats.getPolls(), conditionStats.getTimeouts()));
+        }
+        ReportManager.logSummary("Wait Report", "Time spent in each explicit wait condition", toHtml(all));
+    }
+
+    private static String toHtml(List<ConditionStats> conditions) {
+        StringBuilder table = new StringBuilder();
+        table.append("<table class='table table-sm'><tr><th>Condition</th><th>Waits</th><th>p50 (ms)</th>")
+                .append("<th>p95 (ms)</th><th>Max (ms)</th><th>Polls</th><th>Timeouts</th></tr>");
+        for (ConditionStats condition : conditions) {
+            LatencyHistogram latency = condition.getLatency();
+            table.append(String.format("<tr><td>%s</td><td>%d</td><td>%.1f</td><td>%.1f</td><td>%.1f</td>"
+                            + "<td>%d</td><td>%d</td></tr>",
+                    condition.getName(), latency.getTotalCount(), latency.getPercentileMillis(50),
+                    latency.getPercentileMillis(95), latency.getMaxMillis(), condition.getPolls(),
+                    condition.getTimeouts()));
+        }
+        table.append("</table>");
+        return table.toString();
+    }
+
+    /**
+     * ConditionStats - Time spent waiting on one named condition
+     */
+    public static final class ConditionStats {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private ConditionStats(String name) {
+            this.name = name;
+        }
+
+        private void recordMet(long nanos, int pollCount) {
+            latency.record(nanos);
+            polls.add(pollCount);
+        }
+
+        private void recordTimeout(long nanos, int pollCount) {
+            latency.record(nanos);
+            polls.add(pollCount);
+            timeouts.increment();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Time from the start of each wait until it was met or timed out
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return Total number of condition evaluations
+         */
+        public long getPolls() {
+            return polls.sum();
+        }
+
+        /**
+         * @return Waits that ended without the condition being met
+         */
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+    }
+}
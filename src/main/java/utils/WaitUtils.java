@@ -1,24 +1,25 @@
 package main.java.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import java.time.Duration;
 import config.ConfigReader;
 
 /**
  * WaitUtils - Provides explicit wait utilities
- * Implements waits for various element states
+ * Implements waits for various element states on top of WaitEngine.
+ * Drivers have no implicit wait: lookups return at once and only these
+ * methods wait, so negative checks take milliseconds instead of a timeout.
  */
 public class WaitUtils {
     private WebDriver driver;
-    private WebDriverWait wait;
+    private Duration timeout;
 
     public WaitUtils(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        this.timeout = Duration.ofSeconds(ConfigReader.getExplicitWait());
     }
 
     /**
@@ -28,7 +29,7 @@ public class WaitUtils {
      * @return WebElement once it is visible
      */
     public WebElement waitForElementToBeVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitEngine.until("visible " + describe(locator), timeout, () -> findDisplayed(locator));
     }
 
     /**
@@ -38,7 +39,10 @@ public class WaitUtils {
      * @return WebElement once it is clickable
      */
     public WebElement waitForElementToBeClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return WaitEngine.until("clickable " + describe(locator), timeout, () -> {
+            WebElement element = findDisplayed(locator);
+            return element != null && element.isEnabled() ? element : null;
+        });
     }
 
     /**
@@ -48,7 +52,10 @@ public class WaitUtils {
      * @return WebElement once it is present
      */
     public WebElement waitForElementToBePresent(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return WaitEngine.until("present " + describe(locator), timeout, () -> {
+            var elements = driver.findElements(locator);
+            return elements.isEmpty() ? null : elements.get(0);
+        });
     }
 
     /**
@@ -58,7 +65,7 @@ public class WaitUtils {
      * @return true if element disappears
      */
     public boolean waitForElementToDisappear(By locator) {
-        return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return WaitEngine.until("invisible " + describe(locator), timeout, () -> findDisplayed(locator) == null);
     }
 
     /**
@@ -69,7 +76,8 @@ public class WaitUtils {
      * @return true if text is present
      */
     public boolean waitForTextInElement(By locator, String text) {
-        return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        return WaitEngine.until("text '" + text + "' in " + describe(locator), timeout,
+                () -> driver.findElement(locator).getText().contains(text));
     }
 
     /**
@@ -79,7 +87,7 @@ public class WaitUtils {
      * @return true if title matches
      */
     public boolean waitForPageTitle(String title) {
-        return wait.until(ExpectedConditions.titleIs(title));
+        return WaitEngine.until("title '" + title + "'", timeout, () -> title.equals(driver.getTitle()));
     }
 
     /**
@@ -89,7 +97,81 @@ public class WaitUtils {
      * @return true if URL contains the portion
      */
     public boolean waitForUrlContains(String urlPortion) {
-        return wait.until(ExpectedConditions.urlContains(urlPortion));
+        return WaitEngine.until("url contains '" + urlPortion + "'", timeout,
+                () -> driver.getCurrentUrl().contains(urlPortion));
+    }
+
+    /**
+     * Wait until the document has been parsed (readyState interactive or complete)
+     */
+    public void waitForDocumentReady() {
+        WaitEngine.until("document ready", timeout, () -> !"loading".equals(
+                ((JavascriptExecutor) driver).executeScript("return document.readyState")));
+    }
+
+    /**
+     * Wait until a page's readiness contract holds
+     *
+     * @param contract - ReadinessContract declared by the page object
+     */
+    public void waitForReadiness(ReadinessContract contract) {
+        contract.await(driver, timeout);
+    }
+
+    /**
+     * Check once, without waiting, if an element is displayed
+     *
+     * @param locator - By locator of the element
+     * @return true if a matching element is displayed right now
+     */
+    public boolean isDisplayedNow(By locator) {
+        return WaitEngine.within("displayed now " + describe(locator), Duration.ZERO,
+                () -> findDisplayed(locator) != null);
+    }
+
+    /**
+     * Check if an element is displayed once the document is ready
+     * For state checks like "is the user logged in": the answer is known as soon
+     * as the page is parsed, so a negative result returns in milliseconds.
+     * With page_load_strategy=none the readyState may still be the previous
+     * document's right after a click, so it waits up to explicit_wait instead,
+     * like ReadinessContract.isMet
+     *
+     * @param locator - By locator of the element
+     * @return true if a matching element is displayed
+     */
+    public boolean isDisplayedWhenReady(By locator) {
+        if ("none".equalsIgnoreCase(ConfigReader.getPageLoadStrategy())) {
+            return isVisibleWithin(locator, timeout);
+        }
+        try {
+            waitForDocumentReady();
+        } catch (RuntimeException e) {
+            return false;
+        }
+        return isDisplayedNow(locator);
+    }
+
+    /**
+     * Wait up to a duration for an element to be displayed
+     *
+     * @param locator - By locator of the element
+     * @param duration - Maximum time to wait
+     * @return true as soon as it is displayed, false if it was not within the duration
+     */
+    public boolean isVisibleWithin(By locator, Duration duration) {
+        return WaitEngine.within("visible " + describe(locator), duration, () -> findDisplayed(locator) != null);
+    }
+
+    /**
+     * Wait up to a duration for an element to be absent or hidden
+     *
+     * @param locator - By locator of the element
+     * @param duration - Maximum time to wait
+     * @return true as soon as no matching element is displayed, false if one still was after the duration
+     */
+    public boolean isAbsentWithin(By locator, Duration duration) {
+        return WaitEngine.within("absent " + describe(locator), duration, () -> findDisplayed(locator) == null);
     }
 
     /**
@@ -104,4 +186,20 @@ public class WaitUtils {
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * First displayed match, or null; returns at once since there is no implicit wait
+     */
+    private WebElement findDisplayed(By locator) {
+        for (WebElement element : driver.findElements(locator)) {
+            if (element.isDisplayed()) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    private static String describe(By locator) {
+        return locator instanceof Locator ? ((Locator) locator).getName() : locator.toString();
+    }
 }
@@ -0,0 +1,314 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * WebDriverPool - Bounded pool of warm WebDriver sessions
+ * Leases sessions to test threads and resets them between tests
+ */
+public class WebDriverPool {
+    private final Supplier<WebDriver> driverSupplier;
+    private final int maxSize;
+    private final int maxUses;
+    private final long leaseTimeoutMillis;
+
+    // Permits bound the number of live sessions (idle + leased)
+    private final Semaphore permits;
+    private final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, PooledDriver> leased = new IdentityHashMap<>();
+
+    // Metrics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * @param driverSupplier - Creates a new browser session on a pool miss
+     * @param maxSize - Maximum number of live sessions
+     * @param maxUses - Number of leases after which a session is evicted
+     * @param leaseTimeoutMillis - Maximum time to wait for a free session
+     */
+    public WebDriverPool(Supplier<WebDriver> driverSupplier, int maxSize, int maxUses, long leaseTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("WebDriver pool size must be at least 1, got: " + maxSize);
+        }
+        this.driverSupplier = driverSupplier;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Lease a session, reusing a warm one when available
+     *
+     * @return WebDriver instance owned by the caller until released
+     */
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("WebDriver pool is closed");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(leaseTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                        + "ms waiting for a WebDriver session (pool size: " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver session", e);
+        }
+        recordLeaseWait(System.nanoTime() - waitStart);
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.poll()) != null) {
+                if (isHealthy(pooled.driver)) {
+                    hits.incrementAndGet();
+                    return markLeased(pooled);
+                }
+                destroy(pooled);
+            }
+
+            misses.incrementAndGet();
+            return markLeased(new PooledDriver(driverSupplier.get()));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a session to the pool
+     * The session is reset, or evicted if it is worn out or unhealthy
+     *
+     * @param driver - WebDriver previously obtained from lease()
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled;
+        synchronized (leased) {
+            pooled = leased.remove(driver);
+        }
+        if (pooled == null) {
+            return;
+        }
+
+        try {
+            if (closed || pooled.uses >= maxUses || !reset(pooled.driver)) {
+                destroy(pooled);
+            } else {
+                idle.offer(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Evict a leased session, e.g. after the browser crashed
+     *
+     * @param driver - WebDriver previously obtained from lease()
+     */
+    public void invalidate(WebDriver driver) {
+        PooledDriver pooled;
+        synchronized (leased) {
+            pooled = leased.remove(driver);
+        }
+        if (pooled != null) {
+            destroy(pooled);
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit all sessions and refuse further leases
+     * Sessions still leased (e.g. at JVM shutdown) are quit too, so no
+     * Chrome or chromedriver process outlives the run; a later release of
+     * such a session is ignored
+     */
+    public void close() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.poll()) != null) {
+            destroy(pooled);
+        }
+        List<PooledDriver> stillLeased;
+        synchronized (leased) {
+            stillLeased = new ArrayList<>(leased.values());
+            leased.clear();
+        }
+        for (PooledDriver leasedDriver : stillLeased) {
+            destroy(leasedDriver);
+            permits.release();
+        }
+    }
+
+    /**
+     * Get a snapshot of pool metrics
+     *
+     * @return Pool statistics
+     */
+    public Stats getStats() {
+        int leasedCount;
+        synchronized (leased) {
+            leasedCount = leased.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), leases.get(),
+                totalLeaseWaitNanos.get(), maxLeaseWaitNanos.get(), idle.size(), leasedCount);
+    }
+
+    private WebDriver markLeased(PooledDriver pooled) {
+        pooled.uses++;
+        leases.incrementAndGet();
+        synchronized (leased) {
+            leased.put(pooled.driver, pooled);
+        }
+        return pooled.driver;
+    }
+
+    private void recordLeaseWait(long waitNanos) {
+        totalLeaseWaitNanos.addAndGet(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Clear cookies and web storage, then park the session on about:blank
+     * Storage must be cleared before leaving the origin it belongs to
+     */
+    private boolean reset(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to reset pooled WebDriver, evicting it: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver pooled) {
+        evictions.incrementAndGet();
+        try {
+            pooled.driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error quitting evicted WebDriver: " + e.getMessage());
+        }
+    }
+
+    /**
+     * PooledDriver - A session plus its lease count
+     */
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+
+    /**
+     * Stats - Immutable snapshot of pool metrics
+     */
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long leases;
+        private final long totalLeaseWaitNanos;
+        private final long maxLeaseWaitNanos;
+        private final int idle;
+        private final int leased;
+
+        Stats(long hits, long misses, long evictions, long leases,
+              long totalLeaseWaitNanos, long maxLeaseWaitNanos, int idle, int leased) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.leases = leases;
+            this.totalLeaseWaitNanos = totalLeaseWaitNanos;
+            this.maxLeaseWaitNanos = maxLeaseWaitNanos;
+            this.idle = idle;
+            this.leased = leased;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getLeases() {
+            return leases;
+        }
+
+        public double getHitRatio() {
+            return leases == 0 ? 0.0 : (double) hits / leases;
+        }
+
+        public double getAverageLeaseWaitMillis() {
+            return leases == 0 ? 0.0 : totalLeaseWaitNanos / 1_000_000.0 / leases;
+        }
+
+        public double getMaxLeaseWaitMillis() {
+            return maxLeaseWaitNanos / 1_000_000.0;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        @Override
+        public String toString() {
+            List<String> parts = new ArrayList<>();
+            parts.add("leases=" + leases);
+            parts.add("hits=" + hits);
+            parts.add("misses=" + misses);
+            parts.add("evictions=" + evictions);
+            parts.add(String.format("hitRatio=%.2f", getHitRatio()));
+            parts.add(String.format("avgLeaseWait=%.1fms", getAverageLeaseWaitMillis()));
+            parts.add(String.format("maxLeaseWait=%.1fms", getMaxLeaseWaitMillis()));
+            parts.add("idle=" + idle);
+            parts.add("leased=" + leased);
+            return "WebDriverPool" + parts;
+        }
+    }
+}
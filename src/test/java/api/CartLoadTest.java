@@ -0,0 +1,63 @@
+package test.java.api;
+
+import io.restassured.response.Response;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import load.LoadProfile;
+import load.LoadResult;
+import load.LoadRunner;
+import load.LoadScenario;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import base.BaseAPITest;
+
+/**
+ * CartLoadTest - Runs the cart flows as an open-model load test
+ * Only part of the "load" group (runners/LoadTestRunner.xml); rate, ramp and
+ * duration come from the load_* settings
+ */
+public class CartLoadTest extends BaseAPITest {
+    private static final double MAX_ERROR_RATE = 0.01;
+    // Carts seeded by the API (and the local stub)
+    private static final int SEEDED_CARTS = 7;
+
+    /**
+     * Test cart create, update and delete at the configured arrival rate
+     */
+    @Test(groups = "load", description = "Verify cart flows keep the error rate low under load")
+    public void testCartFlowsUnderLoad() {
+        System.out.println("Starting test: Cart flows under load");
+
+        List<LoadResult> results = LoadRunner.with(LoadProfile.fromConfig())
+                .scenario(LoadScenario.of("create cart",
+                        expectSuccess("POST /carts", CartScenarios::createCart)))
+                .scenario(LoadScenario.of("update cart",
+                        expectSuccess("PUT /carts/{id}", () -> CartScenarios.updateCart(randomSeededCart()))))
+                .scenario(LoadScenario.of("create + delete cart", this::createAndDeleteCart))
+                .run();
+
+        for (LoadResult result : results) {
+            Assert.assertTrue(result.getCompleted() > 0, result.getScenario() + " completed no iterations");
+            Assert.assertTrue(result.getErrorRate() <= MAX_ERROR_RATE,
+                    result.getScenario() + " error rate too high: " + result + ", first error: "
+                            + result.getFirstError());
+        }
+        System.out.println("✓ Cart flows stayed within the error budget under load");
+    }
+
+    /**
+     * Delete needs a cart of its own, otherwise concurrent iterations delete the same one
+     */
+    private void createAndDeleteCart() {
+        Response created = CartScenarios.createCart();
+        if (!isSuccessResponse(created)) {
+            throw new IllegalStateException("POST /carts returned " + created.getStatusCode());
+        }
+        int cartId = created.jsonPath().getInt("id");
+        expectSuccess("DELETE /carts/{id}", () -> CartScenarios.deleteCart(cartId)).run();
+    }
+
+    private static int randomSeededCart() {
+        return 1 + ThreadLocalRandom.current().nextInt(SEEDED_CARTS);
+    }
+}
@@ -0,0 +1,73 @@
+package test.java.api;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.restassured.response.Response;
+import utils.ApiClient;
+
+/**
+ * CartScenarios - Cart requests shared by the functional tests and the load tests
+ * Each method sends one request and returns the response without asserting on it
+ */
+public class CartScenarios {
+
+    /**
+     * POST /carts with two products for user 1
+     */
+    public static Response createCart() {
+        return ApiClient.given()
+                .header("Content-Type", "application/json")
+                .body(cartBody(1, "2024-01-08", new int[][]{{1, 2}, {3, 1}}))
+                .when()
+                .post("/carts");
+    }
+
+    /**
+     * PUT /carts/{id} replacing the cart with two products for user 1
+     *
+     * @param cartId - Cart to update
+     */
+    public static Response updateCart(int cartId) {
+        return ApiClient.given()
+                .header("Content-Type", "application/json")
+                .pathParam("id", cartId)
+                .body(cartBody(1, "2024-01-09", new int[][]{{1, 5}, {2, 2}}))
+                .when()
+                .put("/carts/{id}");
+    }
+
+    /**
+     * DELETE /carts/{id}
+     *
+     * @param cartId - Cart to delete
+     */
+    public static Response deleteCart(int cartId) {
+        return ApiClient.given()
+                .pathParam("id", cartId)
+                .when()
+                .delete("/carts/{id}");
+    }
+
+    /**
+     * Build a cart request body
+     *
+     * @param userId - Owner of the cart
+     * @param date - Cart date (yyyy-MM-dd)
+     * @param products - {productId, quantity} pairs
+     * @return JSON body
+     */
+    public static String cartBody(int userId, String date, int[][] products) {
+        JsonArray items = new JsonArray();
+        for (int[] product : products) {
+            JsonObject item = new JsonObject();
+            item.addProperty("productId", product[0]);
+            item.addProperty("quantity", product[1]);
+            items.add(item);
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("userId", userId);
+        body.addProperty("date", date);
+        body.add("products", items);
+        return body.toString();
+    }
+}
@@ -1,22 +1,15 @@
 package test.java.api;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
-import config.ConfigReader;
+import base.BaseAPITest;
 import com.google.gson.JsonObject;
 
 /**
  * CreateCartTest - API test cases for cart creation
  */
-public class CreateCartTest {
-
-    @BeforeClass
-    public void setUp() {
-        RestAssured.baseURI = ConfigReader.getApiBaseUrl();
-    }
+public class CreateCartTest extends BaseAPITest {
 
     /**
      * Test creating a cart via API
@@ -25,28 +18,7 @@ public class CreateCartTest {
     public void testCreateCart() {
         System.out.println("Starting test: Create cart");
 
-        // Build request body
-        String requestBody = "{\n" +
-                "  \"userId\": 1,\n" +
-                "  \"date\": \"2024-01-08\",\n" +
-                "  \"products\": [\n" +
-                "    {\n" +
-                "      \"productId\": 1,\n" +
-                "      \"quantity\": 2\n" +
-                "    },\n" +
-                "    {\n" +
-                "      \"productId\": 3,\n" +
-                "      \"quantity\": 1\n" +
-                "    }\n" +
-                "  ]\n" +
-                "}";
-
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
-                .header("Content-Type", "application/json")
-                .body(requestBody)
-                .when()
-                .post("/carts")
+        Response response = CartScenarios.createCart()
                 .then()
                 .assertThat()
                 .statusCode(200)
@@ -79,8 +51,7 @@ public class CreateCartTest {
                 "  ]\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .body(requestBody)
                 .when()
@@ -107,8 +78,7 @@ public class CreateCartTest {
                 "  \"date\": \"invalid-date\"\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .body(invalidRequestBody)
                 .when()
@@ -136,8 +106,7 @@ public class CreateCartTest {
                 "  ]\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .body(requestBody)
                 .when()
@@ -1,21 +1,14 @@
 package test.java.api;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
-import config.ConfigReader;
+import base.BaseAPITest;
 
 /**
  * DeleteCartTest - API test cases for cart deletion
  */
-public class DeleteCartTest {
-
-    @BeforeClass
-    public void setUp() {
-        RestAssured.baseURI = ConfigReader.getApiBaseUrl();
-    }
+public class DeleteCartTest extends BaseAPITest {
 
     /**
      * Test deleting an existing cart
@@ -26,11 +19,7 @@ public class DeleteCartTest {
 
         int cartId = 1;
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
-                .pathParam("id", cartId)
-                .when()
-                .delete("/carts/{id}")
+        Response response = CartScenarios.deleteCart(cartId)
                 .then()
                 .assertThat()
                 .statusCode(200)
@@ -55,8 +44,7 @@ public class DeleteCartTest {
         int[] cartIds = {2, 3, 4};
 
         for (int cartId : cartIds) {
-            Response response = RestAssured.given()
-                    .timeout(ConfigReader.getApiTimeout())
+            Response response = request()
                     .pathParam("id", cartId)
                     .when()
                     .delete("/carts/{id}");
@@ -76,8 +64,7 @@ public class DeleteCartTest {
 
         int invalidCartId = 99999;
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .pathParam("id", invalidCartId)
                 .when()
                 .delete("/carts/{id}");
@@ -95,8 +82,7 @@ public class DeleteCartTest {
 
         String invalidCartId = "abc";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .pathParam("id", invalidCartId)
                 .when()
                 .delete("/carts/{id}");
@@ -115,8 +101,7 @@ public class DeleteCartTest {
         int cartId = 5;
 
         // Delete the cart
-        RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        request()
                 .pathParam("id", cartId)
                 .when()
                 .delete("/carts/{id}");
@@ -124,8 +109,7 @@ public class DeleteCartTest {
         System.out.println("Cart " + cartId + " deleted");
 
         // Try to access the deleted cart
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .pathParam("id", cartId)
                 .when()
                 .get("/carts/{id}");
@@ -143,8 +127,7 @@ public class DeleteCartTest {
 
         int cartId = 6;
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .pathParam("id", cartId)
                 .when()
                 .delete("/carts/{id}")
@@ -0,0 +1,56 @@
+package test.java.api;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import load.LoadProfile;
+import load.LoadResult;
+import load.LoadRunner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import base.BaseAPITest;
+import utils.PostmanCollection;
+import utils.RequestPlan;
+
+/**
+ * PostmanCollectionTest - Runs the Fake Store postman collection through the framework client
+ */
+public class PostmanCollectionTest extends BaseAPITest {
+
+    /**
+     * Test every read-only request in the collection as a smoke check
+     * Writes are left out so the smoke check cannot interfere with the cart tests
+     */
+    @Test(description = "Verify all read-only postman requests succeed")
+    public void testCollectionSmoke() {
+        System.out.println("Starting test: Postman collection smoke check");
+
+        List<RequestPlan> plans = PostmanCollection.load(PostmanCollection.FAKESTORE_COLLECTION).getReadOnlyPlans();
+        Assert.assertFalse(plans.isEmpty(), "No read-only requests imported from the collection");
+
+        List<RequestPlan.Execution> failures = runPlans(plans).stream()
+                .filter(execution -> !execution.isSuccess())
+                .collect(Collectors.toList());
+
+        Assert.assertTrue(failures.isEmpty(), "Postman requests failed: " + failures);
+        System.out.println("✓ " + plans.size() + " postman requests succeeded");
+    }
+
+    /**
+     * Test the read-only collection requests as load scenarios
+     */
+    @Test(groups = "load", description = "Verify postman requests keep the error rate low under load")
+    public void testCollectionUnderLoad() {
+        System.out.println("Starting test: Postman collection under load");
+
+        LoadRunner runner = LoadRunner.with(LoadProfile.fromConfig());
+        PostmanCollection.load(PostmanCollection.FAKESTORE_COLLECTION).getReadOnlyPlans()
+                .forEach(plan -> runner.scenario(toLoadScenario(plan)));
+
+        for (LoadResult result : runner.run()) {
+            Assert.assertTrue(result.getErrorRate() <= 0.01,
+                    result.getScenario() + " error rate too high: " + result + ", first error: "
+                            + result.getFirstError());
+        }
+        System.out.println("✓ Postman requests stayed within the error budget under load");
+    }
+}
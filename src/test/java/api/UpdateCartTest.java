@@ -1,21 +1,14 @@
 package test.java.api;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.testng.Assert;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
-import config.ConfigReader;
+import base.BaseAPITest;
 
 /**
  * UpdateCartTest - API test cases for cart updates
  */
-public class UpdateCartTest {
-
-    @BeforeClass
-    public void setUp() {
-        RestAssured.baseURI = ConfigReader.getApiBaseUrl();
-    }
+public class UpdateCartTest extends BaseAPITest {
 
     /**
      * Test updating an existing cart
@@ -25,28 +18,7 @@ public class UpdateCartTest {
         System.out.println("Starting test: Update cart");
 
         int cartId = 1;
-        String requestBody = "{\n" +
-                "  \"userId\": 1,\n" +
-                "  \"date\": \"2024-01-09\",\n" +
-                "  \"products\": [\n" +
-                "    {\n" +
-                "      \"productId\": 1,\n" +
-                "      \"quantity\": 5\n" +
-                "    },\n" +
-                "    {\n" +
-                "      \"productId\": 2,\n" +
-                "      \"quantity\": 2\n" +
-                "    }\n" +
-                "  ]\n" +
-                "}";
-
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
-                .header("Content-Type", "application/json")
-                .pathParam("id", cartId)
-                .body(requestBody)
-                .when()
-                .put("/carts/{id}")
+        Response response = CartScenarios.updateCart(cartId)
                 .then()
                 .assertThat()
                 .statusCode(200)
@@ -80,8 +52,7 @@ public class UpdateCartTest {
                 "  ]\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .pathParam("id", cartId)
                 .body(requestBody)
@@ -124,8 +95,7 @@ public class UpdateCartTest {
                 "  ]\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .pathParam("id", cartId)
                 .body(requestBody)
@@ -150,8 +120,7 @@ public class UpdateCartTest {
                 "  \"products\": []\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .pathParam("id", invalidCartId)
                 .body(requestBody)
@@ -176,8 +145,7 @@ public class UpdateCartTest {
                 "  \"products\": []\n" +
                 "}";
 
-        Response response = RestAssured.given()
-                .timeout(ConfigReader.getApiTimeout())
+        Response response = request()
                 .header("Content-Type", "application/json")
                 .pathParam("id", cartId)
                 .body(requestBody)
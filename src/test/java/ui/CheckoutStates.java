@@ -0,0 +1,41 @@
+package ui;
+
+import java.net.URI;
+import config.ConfigReader;
+import pages.CartPage;
+import pages.ProductsPage;
+import utils.BrowserState;
+
+/**
+ * CheckoutStates - Named browser states shared by the checkout tests
+ * Each state is reached through the UI once per run and restored from its
+ * cookies afterwards; see BrowserState
+ */
+public final class CheckoutStates {
+
+    /**
+     * Logged-in user with the first catalog product in the cart, on the cart page
+     */
+    public static final BrowserState CART_WITH_ONE_ITEM = BrowserState.named("cart-with-one-item")
+            .loggedIn()
+            .step(driver -> driver.navigate().to(URI.create(ConfigReader.getBaseUrl()).resolve("products").toString()))
+            .step(driver -> {
+                ProductsPage productsPage = new ProductsPage(driver);
+                productsPage.addFirstProductToCart();
+                productsPage.clickViewCart();
+            })
+            .startAt("view_cart")
+            .build();
+
+    /**
+     * CART_WITH_ONE_ITEM, moved on to the checkout review page
+     */
+    public static final BrowserState CHECKOUT_WITH_ONE_ITEM = BrowserState.named("checkout-with-one-item")
+            .from(CART_WITH_ONE_ITEM)
+            .step(driver -> new CartPage(driver).clickProceedCheckout())
+            .startAt("checkout")
+            .build();
+
+    private CheckoutStates() {
+    }
+}
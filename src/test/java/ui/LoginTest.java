@@ -21,14 +21,14 @@ public class LoginTest extends BaseTest {
         ReportManager.logInfo("Starting login test with valid credentials");
 
         // Navigate to home page
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         Assert.assertTrue(homePage.isHomePageLoaded(), "Home page failed to load");
         ReportManager.logPass("Home page loaded successfully");
 
         // Navigate to login page
         homePage.clickLoginLink();
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         Assert.assertTrue(loginPage.isLoginPageLoaded(), "Login page failed to load");
         ReportManager.logPass("Login page loaded successfully");
 
@@ -39,7 +39,7 @@ public class LoginTest extends BaseTest {
         ReportManager.logInfo("Login performed with email: " + validEmail);
 
         // Wait for redirect and verify
-        homePage = new HomePage(driver);
+        homePage = new HomePage(getDriver());
         Assert.assertTrue(homePage.isUserLoggedIn(), "User failed to login");
         ReportManager.logPass("User successfully logged in");
     }
@@ -52,14 +52,14 @@ public class LoginTest extends BaseTest {
         ReportManager.logInfo("Starting login test with invalid credentials");
 
         // Navigate to home page
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         Assert.assertTrue(homePage.isHomePageLoaded(), "Home page failed to load");
         ReportManager.logPass("Home page loaded successfully");
 
         // Navigate to login page
         homePage.clickLoginLink();
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         Assert.assertTrue(loginPage.isLoginPageLoaded(), "Login page failed to load");
         ReportManager.logPass("Login page loaded successfully");
 
@@ -83,8 +83,8 @@ public class LoginTest extends BaseTest {
     public void testHomepageLoads() {
         ReportManager.logInfo("Starting homepage load test");
 
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
 
         Assert.assertTrue(homePage.isHomePageLoaded(), "Home page failed to load");
         ReportManager.logPass("Home page loaded successfully");
@@ -102,17 +102,12 @@ public class LoginTest extends BaseTest {
     public void testLogout() {
         ReportManager.logInfo("Starting logout test");
 
-        // Login first
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
-        homePage.clickLoginLink();
-
-        LoginPage loginPage = new LoginPage(driver);
-        loginPage.login(ConfigReader.getValidEmail(), ConfigReader.getValidPassword());
-        ReportManager.logInfo("User logged in successfully");
+        // Start logged in; logging in is covered by testLoginWithValidCredentials
+        seedDisposableSession();
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
 
         // Verify user is logged in
-        homePage = new HomePage(driver);
         Assert.assertTrue(homePage.isUserLoggedIn(), "User not logged in");
         ReportManager.logPass("User login verified");
 
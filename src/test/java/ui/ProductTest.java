@@ -7,6 +7,7 @@ import config.ConfigReader;
 import pages.HomePage;
 import pages.ProductsPage;
 import utils.ReportManager;
+import utils.TestDataProviders;
 
 /**
  * ProductTest - Test cases for product functionality
@@ -20,13 +21,13 @@ public class ProductTest extends BaseTest {
     public void testProductsPageLoads() {
         ReportManager.logInfo("Starting products page load test");
 
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         Assert.assertTrue(homePage.isHomePageLoaded(), "Home page failed to load");
         ReportManager.logPass("Home page loaded successfully");
 
         homePage.clickProductsLink();
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = new ProductsPage(getDriver());
         Assert.assertTrue(productsPage.isProductsPageLoaded(), "Products page failed to load");
         ReportManager.logPass("Products page loaded successfully");
 
@@ -42,11 +43,11 @@ public class ProductTest extends BaseTest {
     public void testSearchProduct() {
         ReportManager.logInfo("Starting product search test");
 
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         homePage.clickProductsLink();
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = new ProductsPage(getDriver());
         String searchKeyword = "Sleeveless";
         productsPage.searchProduct(searchKeyword);
         ReportManager.logInfo("Searched for product: " + searchKeyword);
@@ -56,6 +57,27 @@ public class ProductTest extends BaseTest {
         ReportManager.logPass("Search successful. Found " + productCount + " products");
     }
 
+    /**
+     * Test product search for every keyword in the product test data
+     */
+    @Test(description = "Verify product search works for each keyword in test data",
+          dataProvider = "productData", dataProviderClass = TestDataProviders.class)
+    public void testSearchProductFromTestData(String productName, String searchKeyword) {
+        ReportManager.logInfo("Starting data-driven product search for: " + searchKeyword);
+
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
+        homePage.clickProductsLink();
+
+        ProductsPage productsPage = new ProductsPage(getDriver());
+        productsPage.searchProduct(searchKeyword);
+        ReportManager.logInfo("Searched for product: " + searchKeyword + " (expecting " + productName + ")");
+
+        int productCount = productsPage.getProductCount();
+        Assert.assertTrue(productCount > 0, "No products found for search term: " + searchKeyword);
+        ReportManager.logPass("Search successful. Found " + productCount + " products");
+    }
+
     /**
      * Test adding product to cart
      */
@@ -63,11 +85,11 @@ public class ProductTest extends BaseTest {
     public void testAddProductToCart() {
         ReportManager.logInfo("Starting add product to cart test");
 
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         homePage.clickProductsLink();
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = new ProductsPage(getDriver());
         Assert.assertTrue(productsPage.isProductsPageLoaded(), "Products page failed to load");
         ReportManager.logPass("Products page loaded successfully");
 
@@ -86,11 +108,11 @@ public class ProductTest extends BaseTest {
     public void testViewAllProducts() {
         ReportManager.logInfo("Starting view all products test");
 
-        driver.navigate().to(ConfigReader.getBaseUrl());
-        HomePage homePage = new HomePage(driver);
+        getDriver().navigate().to(ConfigReader.getBaseUrl());
+        HomePage homePage = new HomePage(getDriver());
         homePage.clickProductsLink();
 
-        ProductsPage productsPage = new ProductsPage(driver);
+        ProductsPage productsPage = new ProductsPage(getDriver());
         Assert.assertTrue(productsPage.isProductsPageLoaded(), "Products page failed to load");
 
         int productCount = productsPage.getProductCount();
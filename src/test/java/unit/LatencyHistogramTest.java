@@ -0,0 +1,78 @@
+package unit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.LatencyHistogram;
+
+/**
+ * LatencyHistogramTest - Percentiles, mean and max of recorded values
+ * Values below 256 ns are exact; larger ones report the top of their sub-bucket
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "Small values are recorded exactly")
+    public void testExactPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int nanos = 1; nanos <= 100; nanos++) {
+            histogram.record(nanos);
+        }
+
+        Assert.assertEquals(histogram.getTotalCount(), 100);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50);
+        Assert.assertEquals(histogram.getValueAtPercentile(90), 90);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100);
+        Assert.assertEquals(histogram.getMinNanos(), 1);
+        Assert.assertEquals(histogram.getMaxNanos(), 100);
+        Assert.assertEquals(histogram.getMeanMillis(), 0.0000505, 1e-12);
+    }
+
+    @Test(description = "Large values round up to their sub-bucket, never past the max")
+    public void testBucketedPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.record(1_000_000);
+        histogram.record(1_000_000);
+        histogram.record(5_000_000);
+
+        // 1,000,000 ns falls in the 4,096 ns wide sub-bucket [999,424, 1,003,519]
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 1_003_519);
+        Assert.assertEquals(histogram.getValueAtPercentile(75), 1_003_519);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 5_000_000);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 1.003519, 1e-9);
+        Assert.assertEquals(histogram.getMeanMillis(), 2.0, 1e-9);
+        Assert.assertEquals(histogram.getMaxMillis(), 5.0, 1e-9);
+    }
+
+    @Test(description = "Merging keeps counts, min and max of both histograms")
+    public void testAdd() {
+        LatencyHistogram small = new LatencyHistogram();
+        for (int nanos = 1; nanos <= 100; nanos++) {
+            small.record(nanos);
+        }
+        LatencyHistogram large = new LatencyHistogram();
+        large.record(5_000_000);
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.add(small);
+        merged.add(large);
+
+        Assert.assertEquals(merged.getTotalCount(), 101);
+        Assert.assertEquals(merged.getMinNanos(), 1);
+        Assert.assertEquals(merged.getMaxNanos(), 5_000_000);
+        Assert.assertEquals(merged.getValueAtPercentile(50), 51);
+    }
+
+    @Test(description = "Empty histograms report 0 and negative values are recorded as 0")
+    public void testEmptyAndNegative() {
+        LatencyHistogram empty = new LatencyHistogram();
+        Assert.assertEquals(empty.getValueAtPercentile(99), 0);
+        Assert.assertEquals(empty.getMinNanos(), 0);
+        Assert.assertEquals(empty.getMeanMillis(), 0.0);
+
+        LatencyHistogram negative = new LatencyHistogram();
+        negative.record(-5);
+        Assert.assertEquals(negative.getTotalCount(), 1);
+        Assert.assertEquals(negative.getMaxNanos(), 0);
+    }
+}
@@ -0,0 +1,73 @@
+package unit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.LatencyHistogram;
+import utils.LatencySampler;
+
+/**
+ * LatencySamplerTest - Coordinated omission correction of scheduled samples
+ * With a target rate every sample is timed from its slot on the schedule, so
+ * a stall is charged to the samples queued behind it as well
+ */
+public class LatencySamplerTest {
+    private static final long STALL_MILLIS = 200;
+
+    @Test(description = "A stall at 50/s shows up in the latency of the samples queued behind it")
+    public void testStallIsChargedToQueuedSamples() {
+        AtomicInteger calls = new AtomicInteger();
+        LatencySampler.Result result = LatencySampler.measure("stall", () -> {
+            if (calls.getAndIncrement() == 0) {
+                sleep(STALL_MILLIS);
+            }
+        }).warmup(0).samples(10).targetRate(50).run();
+
+        // Slots are 20 ms apart: sample k started about 200 - 20k ms late,
+        // so the corrected latencies are roughly 200, 180, ..., 20 ms
+        LatencyHistogram latency = result.getHistogram();
+        Assert.assertEquals(latency.getTotalCount(), 10);
+        Assert.assertTrue(latency.getMaxMillis() >= STALL_MILLIS, "max " + latency.getMaxMillis());
+        Assert.assertTrue(latency.getPercentileMillis(50) >= 100, "p50 " + latency.getPercentileMillis(50));
+        Assert.assertTrue(latency.getPercentileMillis(10) >= 20, "p10 " + latency.getPercentileMillis(10));
+
+        // Service time only sees the one slow call
+        LatencyHistogram serviceTime = result.getServiceTimeHistogram();
+        Assert.assertEquals(serviceTime.getTotalCount(), 10);
+        Assert.assertTrue(serviceTime.getMaxMillis() >= STALL_MILLIS);
+        Assert.assertTrue(serviceTime.getPercentileMillis(90) < 20, "p90 " + serviceTime.getPercentileMillis(90));
+    }
+
+    @Test(description = "Without a target rate latency equals service time")
+    public void testBackToBackSamples() {
+        LatencySampler.Result result = LatencySampler.measure("back to back", () -> sleep(5))
+                .warmup(0).samples(5).run();
+
+        Assert.assertEquals(result.getHistogram().getTotalCount(), 5);
+        Assert.assertTrue(result.getHistogram().getPercentileMillis(50) >= 5);
+        Assert.assertTrue(result.getHistogram().getMaxMillis() - result.getServiceTimeHistogram().getMaxMillis() < 1);
+    }
+
+    @Test(description = "Failing samples are counted and still timed")
+    public void testErrorsAreCounted() {
+        AtomicInteger calls = new AtomicInteger();
+        LatencySampler.Result result = LatencySampler.measure("errors", () -> {
+            if (calls.getAndIncrement() % 2 == 0) {
+                throw new IllegalStateException("boom");
+            }
+        }).warmup(0).samples(4).run();
+
+        Assert.assertEquals(result.getErrorCount(), 2);
+        Assert.assertEquals(result.getFirstError().getMessage(), "boom");
+        Assert.assertEquals(result.getHistogram().getTotalCount(), 4);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
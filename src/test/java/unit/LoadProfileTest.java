@@ -0,0 +1,93 @@
+package unit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import load.LoadProfile;
+import load.LoadResult;
+import load.LoadRunner;
+import load.LoadScenario;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * LoadProfileTest - Arrival schedules of constant and ramped load profiles
+ * A run releases as many arrivals as the area under its rate curve
+ */
+public class LoadProfileTest {
+
+    @Test(description = "A constant rate spaces arrivals evenly")
+    public void testConstantArrivals() {
+        LoadProfile profile = LoadProfile.constant(10, Duration.ofSeconds(1));
+
+        Assert.assertEquals(countArrivals(profile), 10);
+        Assert.assertEquals(profile.arrivalOffsetNanos(0), 0);
+        Assert.assertEquals(profile.arrivalOffsetNanos(1), 100_000_000);
+        Assert.assertEquals(profile.arrivalOffsetNanos(5), 500_000_000);
+        Assert.assertEquals(profile.arrivalOffsetNanos(10), -1);
+    }
+
+    @Test(description = "A ramp from 0 to 20/s over 1 s releases 10 arrivals, most of them late")
+    public void testRampUpArrivals() {
+        LoadProfile profile = LoadProfile.ramp(0, 20, Duration.ofSeconds(1));
+
+        // Arrival k is due at sqrt(k / 10) s
+        Assert.assertEquals(countArrivals(profile), 10);
+        Assert.assertEquals(profile.arrivalOffsetNanos(1), 316_227_766);
+        Assert.assertEquals(profile.arrivalOffsetNanos(5), 707_106_781);
+        Assert.assertEquals(countArrivalsBefore(profile, 500_000_000), 3);
+    }
+
+    @Test(description = "Ramps up and down over 2 s release the same 40 arrivals, front- or back-loaded")
+    public void testRampDirection() {
+        LoadProfile up = LoadProfile.ramp(10, 30, Duration.ofSeconds(2));
+        LoadProfile down = LoadProfile.ramp(30, 10, Duration.ofSeconds(2));
+
+        Assert.assertEquals(countArrivals(up), 40);
+        Assert.assertEquals(countArrivals(down), 40);
+        // First second: 10..20/s gives 15 arrivals, 30..20/s gives 25
+        Assert.assertEquals(countArrivalsBefore(up, 1_000_000_000), 15);
+        Assert.assertEquals(countArrivalsBefore(down, 1_000_000_000), 25);
+    }
+
+    @Test(description = "Invalid profiles are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testZeroRateRejected() {
+        LoadProfile.ramp(0, 0, Duration.ofSeconds(1));
+    }
+
+    @Test(description = "The runner starts every scheduled arrival of a ramp exactly once")
+    public void testRunnerSchedulesRampArrivals() {
+        AtomicInteger iterations = new AtomicInteger();
+        AtomicInteger failing = new AtomicInteger();
+
+        List<LoadResult> results = LoadRunner.with(LoadProfile.ramp(0, 100, Duration.ofSeconds(1)))
+                .maxConcurrency(4)
+                .scenario(LoadScenario.of("count", iterations::incrementAndGet))
+                .scenario(LoadScenario.of("fail", () -> {
+                    failing.incrementAndGet();
+                    throw new IllegalStateException("expected failure");
+                }))
+                .run();
+
+        Assert.assertEquals(iterations.get(), 50);
+        Assert.assertEquals(results.get(0).getScheduled(), 50);
+        Assert.assertEquals(results.get(0).getCompleted(), 50);
+        Assert.assertEquals(results.get(0).getErrors(), 0);
+        Assert.assertEquals(failing.get(), 50);
+        Assert.assertEquals(results.get(1).getErrors(), 50);
+        Assert.assertEquals(results.get(1).getErrorRate(), 1.0);
+    }
+
+    private static int countArrivals(LoadProfile profile) {
+        return countArrivalsBefore(profile, Long.MAX_VALUE);
+    }
+
+    private static int countArrivalsBefore(LoadProfile profile, long offsetNanos) {
+        int count = 0;
+        long offset;
+        while ((offset = profile.arrivalOffsetNanos(count)) >= 0 && offset < offsetNanos) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,85 @@
+package unit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.PostmanCollection;
+import utils.RequestPlan;
+
+/**
+ * PostmanCollectionTest - Compiling Postman items into RequestPlans, offline
+ * Uses postman/fixture.postman_collection.json; nothing is sent
+ */
+public class PostmanCollectionTest {
+    private static final String FIXTURE = "postman/fixture.postman_collection.json";
+
+    private final PostmanCollection collection = PostmanCollection.load(FIXTURE);
+
+    @Test(description = "Folders, names and read-only plans follow the collection")
+    public void testStructure() {
+        Assert.assertEquals(collection.getName(), "Fixture");
+        Assert.assertEquals(names(collection.getPlans()),
+                List.of("Carts/Get Cart", "Carts/Update Cart", "Raw Products", "Create User"));
+        Assert.assertEquals(names(collection.getPlansInFolder("Carts")),
+                List.of("Carts/Get Cart", "Carts/Update Cart"));
+        Assert.assertEquals(names(collection.getReadOnlyPlans()), List.of("Carts/Get Cart", "Raw Products"));
+    }
+
+    @Test(description = ":var segments become path parameters; disabled headers and query entries are dropped")
+    public void testStructuredUrl() {
+        RequestPlan plan = collection.getPlan("Carts/Get Cart");
+
+        Assert.assertEquals(plan.getMethod(), "GET");
+        Assert.assertEquals(plan.getPathTemplate(), "/carts/{id}");
+        Assert.assertEquals(plan.getPathDefaults(), Map.of("id", "3"));
+        Assert.assertEquals(plan.getQueryParams(), Map.of("sort", "desc"));
+        Assert.assertEquals(plan.getHeaders(), Map.of("Authorization", "Bearer abc"));
+        Assert.assertNull(plan.getBody(Collections.emptyMap()));
+    }
+
+    @Test(description = "{{var}} segments become path parameters and body placeholders are rendered")
+    public void testTemplatedBody() {
+        RequestPlan plan = collection.getPlan("Carts/Update Cart");
+
+        Assert.assertEquals(plan.getPathTemplate(), "/carts/{cartId}");
+        Assert.assertEquals(plan.getPathDefaults(), Map.of("cartId", "5"));
+        Assert.assertEquals(plan.getHeaders(), Map.of("Content-Type", "application/json"));
+        // Collection defaults fill known placeholders; unknown ones are kept as written
+        Assert.assertEquals(plan.getBody(Collections.emptyMap()), "{\"userId\": 7, \"date\": \"{{date}}\"}");
+        Assert.assertEquals(plan.getBody(Map.of("userId", "9", "date", "2024-01-01")),
+                "{\"userId\": 9, \"date\": \"2024-01-01\"}");
+    }
+
+    @Test(description = "Raw URL strings lose their origin and keep their query")
+    public void testRawUrl() {
+        RequestPlan plan = collection.getPlan("Raw Products");
+
+        Assert.assertEquals(plan.getPathTemplate(), "/products/category/{category}");
+        Assert.assertEquals(plan.getPathDefaults(), Map.of("category", ""));
+        Assert.assertEquals(plan.getQueryParams(), Map.of("limit", "5", "sort", "{{order}}", "flag", ""));
+        Assert.assertTrue(plan.getHeaders().isEmpty());
+    }
+
+    @Test(description = "A {{baseUrl}} host is stripped and a placeholder-free body is sent as is")
+    public void testStaticBody() {
+        RequestPlan plan = collection.getPlan("Create User");
+
+        Assert.assertEquals(plan.getMethod(), "POST");
+        Assert.assertEquals(plan.getPathTemplate(), "/users");
+        Assert.assertTrue(plan.getPathDefaults().isEmpty());
+        Assert.assertEquals(plan.getBody(Map.of("name", "ignored")), "{\"name\": \"fixed\"}");
+        Assert.assertFalse(plan.isReadOnly());
+    }
+
+    @Test(description = "Unknown plan names are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownPlan() {
+        collection.getPlan("Carts/Delete Cart");
+    }
+
+    private static List<String> names(List<RequestPlan> plans) {
+        return plans.stream().map(RequestPlan::getQualifiedName).collect(Collectors.toList());
+    }
+}
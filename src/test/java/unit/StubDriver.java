@@ -0,0 +1,85 @@
+package unit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * StubDriver - In-memory WebDriver for unit tests of driver management
+ * Records every call and can simulate a crashed browser or a failing reset
+ */
+public class StubDriver {
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final WebDriver driver;
+    private volatile boolean crashed;
+    private volatile boolean failReset;
+    private volatile int quits;
+
+    public StubDriver() {
+        this.driver = (WebDriver) proxy(WebDriver.class, JavascriptExecutor.class);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Make every later call fail like a crashed browser
+     */
+    public void crash() {
+        crashed = true;
+    }
+
+    /**
+     * Make cookie deletion fail, so the pool cannot reset the session
+     */
+    public void failReset() {
+        failReset = true;
+    }
+
+    public int getQuits() {
+        return quits;
+    }
+
+    public List<String> getCalls() {
+        synchronized (calls) {
+            return new ArrayList<>(calls);
+        }
+    }
+
+    private Object proxy(Class<?>... interfaces) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                switch (name) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "StubDriver";
+                }
+            }
+            calls.add(args != null && args.length > 0 && args[0] instanceof String ? name + " " + args[0] : name);
+            if (name.equals("quit")) {
+                quits++;
+                return null;
+            }
+            if (crashed || (failReset && name.equals("deleteAllCookies"))) {
+                throw new WebDriverException("stub browser is not reachable");
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface()) {
+                // manage(), navigate() and friends return further stubs
+                return proxy(returnType);
+            }
+            return returnType == String.class ? "stub-window" : null;
+        };
+        return Proxy.newProxyInstance(StubDriver.class.getClassLoader(), interfaces, handler);
+    }
+}
@@ -0,0 +1,124 @@
+package unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import utils.WebDriverPool;
+
+/**
+ * WebDriverPoolTest - Reuse, eviction and reset rules of the session pool
+ * Runs against StubDriver sessions, no browser needed
+ */
+public class WebDriverPoolTest {
+    private List<StubDriver> created;
+    private Supplier<WebDriver> supplier;
+
+    @BeforeMethod
+    public void setUp() {
+        created = new ArrayList<>();
+        supplier = () -> {
+            StubDriver stub = new StubDriver();
+            created.add(stub);
+            return stub.getDriver();
+        };
+    }
+
+    @Test(description = "A released session is reset and handed to the next lease")
+    public void testReleasedSessionIsReused() {
+        WebDriverPool pool = new WebDriverPool(supplier, 2, 10, 100);
+
+        WebDriver first = pool.lease();
+        pool.release(first);
+        WebDriver second = pool.lease();
+
+        Assert.assertSame(second, first, "Warm session was not reused");
+        Assert.assertEquals(created.size(), 1, "Sessions created");
+        Assert.assertTrue(created.get(0).getCalls().contains("deleteAllCookies"), "Cookies were not cleared");
+        Assert.assertTrue(created.get(0).getCalls().contains("to about:blank"), "Session was not parked");
+        WebDriverPool.Stats stats = pool.getStats();
+        Assert.assertEquals(stats.getHits(), 1);
+        Assert.assertEquals(stats.getMisses(), 1);
+        Assert.assertEquals(stats.getLeased(), 1);
+    }
+
+    @Test(description = "A session is evicted once it has been leased max-uses times")
+    public void testSessionEvictedAfterMaxUses() {
+        WebDriverPool pool = new WebDriverPool(supplier, 1, 2, 100);
+
+        pool.release(pool.lease());
+        pool.release(pool.lease());
+        WebDriver third = pool.lease();
+
+        Assert.assertEquals(created.size(), 2, "Worn-out session was not replaced");
+        Assert.assertEquals(created.get(0).getQuits(), 1, "Worn-out session was not quit");
+        Assert.assertSame(third, created.get(1).getDriver());
+        Assert.assertEquals(pool.getStats().getEvictions(), 1);
+    }
+
+    @Test(description = "A session whose reset fails is evicted instead of pooled")
+    public void testFailedResetEvictsSession() {
+        WebDriverPool pool = new WebDriverPool(supplier, 1, 10, 100);
+
+        WebDriver first = pool.lease();
+        created.get(0).failReset();
+        pool.release(first);
+
+        Assert.assertEquals(created.get(0).getQuits(), 1, "Session with failed reset was not quit");
+        Assert.assertEquals(pool.getStats().getIdle(), 0);
+        Assert.assertNotSame(pool.lease(), first, "Session with failed reset was reused");
+    }
+
+    @Test(description = "An idle session that crashed is evicted on the next lease")
+    public void testCrashedIdleSessionIsReplaced() {
+        WebDriverPool pool = new WebDriverPool(supplier, 1, 10, 100);
+
+        WebDriver first = pool.lease();
+        pool.release(first);
+        created.get(0).crash();
+        WebDriver second = pool.lease();
+
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(created.get(0).getQuits(), 1);
+        Assert.assertEquals(pool.getStats().getMisses(), 2);
+    }
+
+    @Test(description = "Leases beyond the pool size time out instead of creating sessions",
+          expectedExceptions = IllegalStateException.class)
+    public void testLeaseTimesOutWhenPoolIsExhausted() {
+        WebDriverPool pool = new WebDriverPool(supplier, 1, 10, 50);
+        pool.lease();
+        pool.lease();
+    }
+
+    @Test(description = "Invalidating a leased session quits it and frees its permit")
+    public void testInvalidateFreesPermit() {
+        WebDriverPool pool = new WebDriverPool(supplier, 1, 10, 50);
+
+        WebDriver first = pool.lease();
+        pool.invalidate(first);
+        WebDriver second = pool.lease();
+
+        Assert.assertEquals(created.get(0).getQuits(), 1);
+        Assert.assertNotSame(second, first);
+    }
+
+    @Test(description = "Closing the pool quits idle and still-leased sessions")
+    public void testCloseQuitsLeasedSessions() {
+        WebDriverPool pool = new WebDriverPool(supplier, 2, 10, 50);
+
+        WebDriver idle = pool.lease();
+        WebDriver leased = pool.lease();
+        pool.release(idle);
+        pool.close();
+
+        Assert.assertEquals(created.get(0).getQuits(), 1, "Idle session was not quit");
+        Assert.assertEquals(created.get(1).getQuits(), 1, "Leased session was not quit");
+        pool.release(leased);
+        Assert.assertEquals(created.get(1).getQuits(), 1, "Release after close quit the session again");
+        Assert.assertEquals(pool.getStats().getLeased(), 0);
+    }
+}